@@ -23,6 +23,8 @@ import forestry.api.apiculture.IBeeHousing;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.genetics.IEffectData;
 import forestry.api.genetics.IIndividual;
+import forestry.apiculture.genetics.FlowerCache;
+import forestry.apiculture.genetics.QueenCache;
 import forestry.core.EnumErrorCode;
 import forestry.core.config.Defaults;
 import forestry.core.config.ForestryItem;
@@ -42,6 +44,8 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 	private IIndividual pollen;
 	private int attemptedPollinations = 0;
 	private final Stack<ItemStack> spawn = new Stack<ItemStack>();
+	private final QueenCache queenCache = new QueenCache();
+	private final FlowerCache flowerCache = new FlowerCache();
 
 	public BeekeepingLogic(IBeeHousing housing) {
 		this.housing = housing;
@@ -141,7 +145,7 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 			return;
 		}
 
-		IBee queen = PluginApiculture.beeInterface.getMember(housing.getQueen());
+		IBee queen = queenCache.getBee(housing.getQueen());
 		// Kill dying queens
 		if (!queen.isAlive()) {
 			killQueen(queen);
@@ -162,6 +166,9 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 		// Effects only fire when queen can work.
 		effectData = queen.doEffect(effectData, housing);
 
+		// Look for flowers between cycles if none are known.
+		flowerCache.update(queen);
+
 		// We have a queen, work!
 		throttle++;
 
@@ -171,7 +178,7 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 			return;
 
 		// Need a flower
-		if (!queen.hasFlower(housing)) {
+		if (!flowerCache.hasFlower(queen, housing)) {
 			housing.setErrorState(EnumErrorCode.NOFLOWER.ordinal());
 			return;
 		} else
@@ -206,10 +213,8 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 		// Age the queen
 		queen.age(housing.getWorld(), housing.getLifespanModifier(queen.getGenome(), queen.getMate(), 0f));
 
-		// Write the changed queen back into the item stack.
-		NBTTagCompound nbttagcompound = new NBTTagCompound();
-		queen.writeToNBT(nbttagcompound);
-		housing.getQueen().setTagCompound(nbttagcompound);
+		// Write the changed health back into the item stack.
+		queenCache.writeHealth(housing.getQueen(), queen);
 
 		return;
 	}
@@ -288,6 +293,7 @@ public class BeekeepingLogic implements IBeekeepingLogic {
 			spawn.add(convert);
 			housing.setQueen(null);
 		}
+		queenCache.clear();
 		housing.onQueenChange(housing.getQueen());
 	}
 
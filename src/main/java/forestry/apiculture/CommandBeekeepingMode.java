@@ -36,6 +36,7 @@ import forestry.api.apiculture.IApiaristTracker;
 import forestry.api.apiculture.IBeekeepingMode;
 import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
+import forestry.apiculture.genetics.QueenCache;
 import forestry.core.config.Defaults;
 import forestry.core.config.Version;
 import forestry.core.proxy.Proxies;
@@ -103,6 +104,11 @@ public class CommandBeekeepingMode extends CommandMC {
 				throw new WrongUsageException("/" + this.getCommandName() + " save <player-name>");
 
 			saveStatistics(sender, arguments);
+		} else if (arguments[0].matches("cache")) {
+			sendChatMessage(sender, String.format("Queen cache: %s hits, %s misses (%.1f%% hit rate).", QueenCache.getHits(), QueenCache.getMisses(),
+					QueenCache.getHitRate() * 100f));
+			if (arguments.length > 1 && arguments[1].matches("reset"))
+				QueenCache.resetStatistics();
 		} else if (arguments[0].matches("help")) {
 			sendChatMessage(sender, "Format: '/" + this.getCommandName() + " <command> <arguments>'");
 			sendChatMessage(sender, "Available commands:");
@@ -110,6 +116,7 @@ public class CommandBeekeepingMode extends CommandMC {
 			sendChatMessage(sender, "- info <mode-name> : information on beekeeping mode.");
 			sendChatMessage(sender, "- set [<world-#>] <mode-name>: set beekeeping mode for world.");
 			sendChatMessage(sender, "- save [<world-#>] <player-name>: save beekeeping statistics for the given player.");
+			sendChatMessage(sender, "- cache [reset]: queen cache statistics.");
 		}
 	}
 
@@ -27,6 +27,7 @@ import forestry.api.core.IStructureLogic;
 import forestry.api.core.ITileStructure;
 import forestry.core.config.Defaults;
 import forestry.core.config.ForestryBlock;
+import forestry.core.gadgets.StructureLogic;
 import forestry.core.gadgets.TileForestry;
 import forestry.core.network.PacketPayload;
 import forestry.core.proxy.Proxies;
@@ -66,14 +67,32 @@ public abstract class TileAlveary extends TileForestry implements IAlvearyCompon
 				isInited = true;
 			}
 
-			// Periodic validation if needed
-			if (worldObj.getTotalWorldTime() % 200 == 0 && (!isIntegratedIntoStructure() || isMaster()))
-				validateStructure();
+			// Validation after block changes within the structure, with a staggered periodic check as fallback
+			if (!isIntegratedIntoStructure() || isMaster()) {
+				if (structureLogic instanceof StructureLogic)
+					((StructureLogic) structureLogic).updateValidation();
+				else if (worldObj.getTotalWorldTime() % 200 == 0)
+					validateStructure();
+			}
 
 			updateServerSide();
 		}
 	}
 
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (structureLogic instanceof StructureLogic)
+			((StructureLogic) structureLogic).onUnload();
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		if (structureLogic instanceof StructureLogic)
+			((StructureLogic) structureLogic).onUnload();
+	}
+
 	protected void updateServerSide() {
 	}
 
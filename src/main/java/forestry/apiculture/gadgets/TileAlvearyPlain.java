@@ -32,6 +32,7 @@ import forestry.api.apiculture.IBeeModifier;
 import forestry.api.apiculture.IBeekeepingLogic;
 import forestry.api.core.*;
 import forestry.api.genetics.IIndividual;
+import forestry.apiculture.genetics.QueenCache;
 import forestry.apiculture.gui.ContainerAlveary;
 import forestry.core.EnumErrorCode;
 import forestry.core.config.Config;
@@ -44,6 +45,7 @@ import forestry.core.network.PacketIds;
 import forestry.core.network.PacketInventoryStack;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.InventoryAdapter;
+import forestry.core.utils.StackUtils;
 import forestry.core.utils.TileInventoryAdapter;
 import forestry.plugins.PluginApiculture;
 
@@ -56,6 +58,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 	public static final int SLOT_PRODUCTION_COUNT = 7;
 	// / MEMBERS
 	protected IBeekeepingLogic beekeepingLogic;
+	protected final QueenCache queenCache = new QueenCache();
 	protected int biomeId;
 	protected float temperature;
 	protected float humidity;
@@ -167,7 +170,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 		// / Multiplayer FX
 		if (PluginApiculture.beeInterface.isMated(inventory.getStackInSlot(SLOT_QUEEN)))
 			if (getErrorState() == EnumErrorCode.OK && worldObj.getTotalWorldTime() % 2 == 0) {
-				IBee displayQueen = PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN));
+				IBee displayQueen = queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN));
 				displayQueen.doFX(beekeepingLogic.getEffectData(), this);
 			}
 		return;
@@ -198,7 +201,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 			return 0;
 
 		if (PluginApiculture.beeInterface.isMated(inventory.getStackInSlot(SLOT_QUEEN)))
-			return PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN)).getHealth();
+			return queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN)).getHealth();
 		else if (!PluginApiculture.beeInterface.isDrone(inventory.getStackInSlot(SLOT_QUEEN)))
 			return displayHealth;
 		else
@@ -210,7 +213,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 			return 0;
 
 		if (PluginApiculture.beeInterface.isMated(inventory.getStackInSlot(SLOT_QUEEN)))
-			return PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN)).getMaxHealth();
+			return queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN)).getMaxHealth();
 		else if (!PluginApiculture.beeInterface.isDrone(inventory.getStackInSlot(SLOT_QUEEN)))
 			return displayHealthMax;
 		else
@@ -434,7 +437,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 		if (!Proxies.common.isSimulating(worldObj))
 			return;
 
-		Proxies.net.sendNetworkPacket(new PacketInventoryStack(PacketIds.IINVENTORY_STACK, xCoord, yCoord, zCoord, SLOT_QUEEN, queenStack), xCoord, yCoord,
+		Proxies.net.sendNetworkPacket(new PacketInventoryStack(PacketIds.IINVENTORY_STACK, xCoord, yCoord, zCoord, SLOT_QUEEN, queenStack), worldObj, xCoord, yCoord,
 				zCoord);
 
 		for (IBeeListener eventHandler : eventHandlers) {
@@ -706,7 +709,7 @@ public class TileAlvearyPlain extends TileAlveary implements ISidedInventory, IS
 			} else {
 				if (!droneStack.isItemEqual(stack))
 					return 0;
-				if (!ItemStack.areItemStackTagsEqual(droneStack, stack))
+				if (!StackUtils.areItemStackTagsEqual(droneStack, stack))
 					return 0;
 				int space = droneStack.getMaxStackSize() - droneStack.stackSize;
 				if (space <= 0)
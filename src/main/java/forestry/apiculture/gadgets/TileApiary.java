@@ -124,7 +124,7 @@ public class TileApiary extends TileBeehouse implements ISidedInventory {
 			inventory.setInventorySlotContents(
 					i,
 					((IHiveFrame) inventory.getStackInSlot(i).getItem()).frameUsed(this, inventory.getStackInSlot(i),
-							PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN)), wear));
+							queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN)), wear));
 		}
 	}
 
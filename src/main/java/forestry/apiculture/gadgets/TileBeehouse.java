@@ -27,6 +27,7 @@ import forestry.api.core.EnumHumidity;
 import forestry.api.core.EnumTemperature;
 import forestry.api.core.ForestryAPI;
 import forestry.api.genetics.IIndividual;
+import forestry.apiculture.genetics.QueenCache;
 import forestry.core.EnumErrorCode;
 import forestry.core.config.Config;
 import forestry.core.config.ForestryItem;
@@ -35,7 +36,6 @@ import forestry.core.interfaces.IClimatised;
 import forestry.core.network.GuiId;
 import forestry.core.network.PacketIds;
 import forestry.core.network.PacketInventoryStack;
-import forestry.core.network.PacketTileUpdate;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.Utils;
@@ -57,6 +57,7 @@ public class TileBeehouse extends TileBase implements IBeeHousing, IClimatised {
 	// Inventory
 	protected InventoryAdapter inventory = new InventoryAdapter(12, "Items");
 	private final IBeekeepingLogic logic;
+	protected final QueenCache queenCache = new QueenCache();
 	private int biomeId = -1;
 	private float temperature;
 	private float humidity;
@@ -151,7 +152,7 @@ public class TileBeehouse extends TileBase implements IBeeHousing, IClimatised {
 		// / Multiplayer FX
 		if (PluginApiculture.beeInterface.isMated(inventory.getStackInSlot(SLOT_QUEEN)))
 			if (getErrorState() == EnumErrorCode.OK && worldObj.getTotalWorldTime() % 2 % 2 == 0) {
-				IBee displayQueen = PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN));
+				IBee displayQueen = queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN));
 				displayQueen.doFX(logic.getEffectData(), this);
 			}
 		return;
@@ -205,9 +206,9 @@ public class TileBeehouse extends TileBase implements IBeeHousing, IClimatised {
 		if (!Proxies.common.isSimulating(worldObj))
 			return;
 
-		Proxies.net.sendNetworkPacket(new PacketInventoryStack(PacketIds.IINVENTORY_STACK, xCoord, yCoord, zCoord, SLOT_QUEEN, queenStack), xCoord, yCoord,
+		Proxies.net.sendNetworkPacket(new PacketInventoryStack(PacketIds.IINVENTORY_STACK, xCoord, yCoord, zCoord, SLOT_QUEEN, queenStack), worldObj, xCoord, yCoord,
 				zCoord);
-		Proxies.net.sendNetworkPacket(new PacketTileUpdate(this), xCoord, yCoord, zCoord);
+		sendNetworkUpdate();
 	}
 
 	/* STATE INFORMATION */
@@ -216,7 +217,7 @@ public class TileBeehouse extends TileBase implements IBeeHousing, IClimatised {
 			return 0;
 
 		if (ForestryItem.beeQueenGE.isItemEqual(inventory.getStackInSlot(SLOT_QUEEN)))
-			return PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN)).getHealth();
+			return queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN)).getHealth();
 		else if (ForestryItem.beePrincessGE.isItemEqual(inventory.getStackInSlot(SLOT_QUEEN)))
 			return displayHealth;
 		else
@@ -228,7 +229,7 @@ public class TileBeehouse extends TileBase implements IBeeHousing, IClimatised {
 			return 0;
 
 		if (ForestryItem.beeQueenGE.isItemEqual(inventory.getStackInSlot(SLOT_QUEEN)))
-			return PluginApiculture.beeInterface.getMember(inventory.getStackInSlot(SLOT_QUEEN)).getMaxHealth();
+			return queenCache.getBee(inventory.getStackInSlot(SLOT_QUEEN)).getMaxHealth();
 		else if (ForestryItem.beePrincessGE.isItemEqual(inventory.getStackInSlot(SLOT_QUEEN)))
 			return displayHealthMax;
 		else
@@ -39,7 +39,7 @@ public class AlleleEffectAggressive extends AlleleEffectThrottled {
 
 		AxisAlignedBB hurtBox = getBounding(genome, housing, 1.0f);
 		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityLivingBase.class, hurtBox);
+		List list = getEntitiesInRange(housing, EntityLivingBase.class, hurtBox);
 
 		for (Object obj : list) {
 			EntityLivingBase entity = (EntityLivingBase) obj;
@@ -61,7 +61,7 @@ public class AlleleEffectCreeper extends AlleleEffectThrottled {
 		AxisAlignedBB infectionBox = getBounding(genome, housing, 1.0f);
 
 		@SuppressWarnings("rawtypes")
-		List list = world.getEntitiesWithinAABB(EntityPlayer.class, infectionBox);
+		List list = getEntitiesInRange(housing, EntityPlayer.class, infectionBox);
 
 		for (Object obj : list) {
 
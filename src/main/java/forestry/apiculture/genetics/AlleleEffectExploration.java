@@ -33,7 +33,7 @@ public class AlleleEffectExploration extends AlleleEffectThrottled {
 
 		AxisAlignedBB beatifyBox = getBounding(genome, housing, 1.0f);
 		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityPlayer.class, beatifyBox);
+		List list = getEntitiesInRange(housing, EntityPlayer.class, beatifyBox);
 
 		for (Object obj : list) {
 			EntityPlayer player = (EntityPlayer) obj;
@@ -34,7 +34,7 @@ public class AlleleEffectHeroic extends AlleleEffectThrottled {
 
 		AxisAlignedBB hurtBox = getBounding(genome, housing, 1.0f);
 		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityMob.class, hurtBox);
+		List list = getEntitiesInRange(housing, EntityMob.class, hurtBox);
 
 		for (Object obj : list) {
 			EntityMob mob = (EntityMob) obj;
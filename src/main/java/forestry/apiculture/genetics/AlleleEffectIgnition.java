@@ -42,7 +42,7 @@ public class AlleleEffectIgnition extends AlleleEffectThrottled {
 
 		AxisAlignedBB hurtBox = getBounding(genome, housing, 1.0f);
 		@SuppressWarnings("rawtypes")
-		List list = world.getEntitiesWithinAABB(EntityLivingBase.class, hurtBox);
+		List list = getEntitiesInRange(housing, EntityLivingBase.class, hurtBox);
 
 		for (Object obj : list) {
 			EntityLivingBase entity = (EntityLivingBase) obj;
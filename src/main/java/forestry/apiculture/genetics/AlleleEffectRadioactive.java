@@ -57,7 +57,7 @@ public class AlleleEffectRadioactive extends AlleleEffectThrottled {
 		AxisAlignedBB hurtBox = AxisAlignedBB.getBoundingBox(min.x, min.y, min.z, max.x, max.y, max.z);
 
 		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityLivingBase.class, hurtBox);
+		List list = getEntitiesInRange(housing, EntityLivingBase.class, hurtBox);
 
 		for (Object obj : list) {
 			EntityLivingBase entity = (EntityLivingBase) obj;
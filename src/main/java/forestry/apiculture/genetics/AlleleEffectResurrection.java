@@ -84,7 +84,7 @@ public class AlleleEffectResurrection extends AlleleEffectThrottled {
 
 		AxisAlignedBB bounding = getBounding(genome, housing, 1.0f);
 		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityItem.class, bounding);
+		List list = getEntitiesInRange(housing, EntityItem.class, bounding);
 
 		if (list.size() > 0)
 			Collections.shuffle(resurrectables);
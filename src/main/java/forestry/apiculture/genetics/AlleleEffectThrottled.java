@@ -10,6 +10,9 @@
  ******************************************************************************/
 package forestry.apiculture.genetics;
 
+import java.util.List;
+
+import net.minecraft.entity.Entity;
 import net.minecraft.util.AxisAlignedBB;
 
 import forestry.api.apiculture.IAlleleBeeEffect;
@@ -19,6 +22,7 @@ import forestry.api.genetics.IEffectData;
 import forestry.core.EnumErrorCode;
 import forestry.core.genetics.Allele;
 import forestry.core.genetics.EffectData;
+import forestry.core.utils.EntitySnapshot;
 import forestry.core.utils.StringUtil;
 import forestry.core.utils.Vect;
 import forestry.plugins.PluginApiculture;
@@ -114,4 +118,11 @@ public abstract class AlleleEffectThrottled extends Allele implements IAlleleBee
 
 		return AxisAlignedBB.getBoundingBox(min.x, min.y, min.z, max.x, max.y, max.z);
 	}
+
+	/**
+	 * Entities within the given box, taken from the snapshot shared by all housings in this tick.
+	 */
+	protected <T extends Entity> List<T> getEntitiesInRange(IBeeHousing housing, Class<T> entityClass, AxisAlignedBB box) {
+		return EntitySnapshot.get(housing.getWorld()).getEntities(entityClass, box);
+	}
 }
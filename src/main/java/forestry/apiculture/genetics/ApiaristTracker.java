@@ -47,13 +47,13 @@ public class ApiaristTracker extends BreedingTracker implements IApiaristTracker
 	}
 
 	@Override
-	public void writeToNBT(NBTTagCompound nbttagcompound) {
+	protected void writeToNBT(NBTTagCompound nbttagcompound, boolean discoveries) {
 
 		nbttagcompound.setInteger("QueensTotal", queensTotal);
 		nbttagcompound.setInteger("PrincessesTotal", princessesTotal);
 		nbttagcompound.setInteger("DronesTotal", dronesTotal);
 
-		super.writeToNBT(nbttagcompound);
+		super.writeToNBT(nbttagcompound, discoveries);
 
 	}
 
@@ -47,8 +47,10 @@ import forestry.api.genetics.IPollinatable;
 import forestry.core.EnumErrorCode;
 import forestry.core.config.Defaults;
 import forestry.core.genetics.Chromosome;
+import forestry.core.genetics.ErsatzIndex;
 import forestry.core.genetics.GenericRatings;
 import forestry.core.genetics.IndividualLiving;
+import forestry.core.genetics.PollinatableIndex;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.StringUtil;
@@ -409,9 +411,6 @@ public class Bee extends IndividualLiving implements IBee {
 
 	@Override
 	public ItemStack[] produceStacks(IBeeHousing housing) {
-		if (!hasFlower(housing))
-			return null;
-
 		if (housing == null) {
 			Proxies.log.warning("Failed to produce in an apiary because the beehousing was null.");
 			return null;
@@ -560,7 +559,7 @@ public class Bee extends IndividualLiving implements IBee {
 			genome1 = genomeOne;
 		}
 
-		for (IBeeMutation mutation : PluginApiculture.beeInterface.getMutations(true)) {
+		for (IBeeMutation mutation : BeeHelper.getMutations(allele0, allele1, world.rand)) {
 			float chance = 0;
 
 			if ((chance = mutation.getChance(housing, allele0, allele1, genome0, genome1)) > 0)
@@ -595,6 +594,8 @@ public class Bee extends IndividualLiving implements IBee {
 		if (area.z < 1)
 			area.z = 1;
 
+		PollinatableIndex index = PollinatableIndex.get(housing.getWorld());
+
 		// We have up to ten attempts
 		for (int i = 0; i < 20; i++) {
 
@@ -603,21 +604,20 @@ public class Bee extends IndividualLiving implements IBee {
 			Vect posBlock = randomPos.add(new Vect(housing.getXCoord(), housing.getYCoord(), housing.getZCoord()));
 			posBlock = posBlock.add(offset);
 
+			if (index != null && !index.isCandidate(posBlock.x, posBlock.y, posBlock.z))
+				continue;
+
 			TileEntity tile = housing.getWorld().getTileEntity(posBlock.x, posBlock.y, posBlock.z);
 			if (!(tile instanceof IPollinatable)) {
 				if (housing.getWorld().isAirBlock(posBlock.x, posBlock.y, posBlock.z))
 					continue;
 
 				// Test for ersatz genomes
-				for (Map.Entry<ItemStack, IIndividual> entry : AlleleManager.ersatzSpecimen.entrySet()) {
-					if (!StackUtils.equals(housing.getWorld().getBlock(posBlock.x, posBlock.y, posBlock.z), entry.getKey()))
-						continue;
-					if (entry.getKey().getItemDamage() != housing.getWorld().getBlockMetadata(posBlock.x, posBlock.y, posBlock.z))
-						continue;
-
+				IIndividual specimen = ErsatzIndex.getSpecimen(housing.getWorld().getBlock(posBlock.x, posBlock.y, posBlock.z),
+						housing.getWorld().getBlockMetadata(posBlock.x, posBlock.y, posBlock.z));
+				if (specimen != null)
 					// We matched, return ersatz genome
-					return entry.getValue().copy();
-				}
+					return specimen.copy();
 
 				continue;
 			}
@@ -655,6 +655,8 @@ public class Bee extends IndividualLiving implements IBee {
 		if (area.z < 1)
 			area.z = 1;
 
+		PollinatableIndex index = PollinatableIndex.get(housing.getWorld());
+
 		// We have up to ten attempts
 		for (int i = 0; i < 30; i++) {
 
@@ -663,6 +665,9 @@ public class Bee extends IndividualLiving implements IBee {
 			Vect posBlock = randomPos.add(new Vect(housing.getXCoord(), housing.getYCoord(), housing.getZCoord()));
 			posBlock = posBlock.add(offset);
 
+			if (index != null && !index.isCandidate(posBlock.x, posBlock.y, posBlock.z))
+				continue;
+
 			IPollinatable receiver = Utils.getOrCreatePollinatable(housing.getOwnerName(), housing.getWorld(), posBlock.x, posBlock.y, posBlock.z);
 			if(receiver == null)
 				continue;
@@ -14,8 +14,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
+import java.util.Random;
 
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -47,6 +49,7 @@ import forestry.api.genetics.IMutation;
 import forestry.apiculture.BeekeepingLogic;
 import forestry.apiculture.gadgets.StructureLogicAlveary;
 import forestry.core.config.ForestryItem;
+import forestry.core.genetics.MutationIndex;
 import forestry.core.genetics.SpeciesRoot;
 import forestry.plugins.PluginApiculture;
 
@@ -227,6 +230,7 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 	 * List of possible mutations on species alleles.
 	 */
 	private static ArrayList<IBeeMutation> beeMutations = new ArrayList<IBeeMutation>();
+	private static final MutationIndex<IBeeMutation> mutationIndex = new MutationIndex<IBeeMutation>();
 
 	@Override
 	public Collection<IBeeMutation> getMutations(boolean shuffle) {
@@ -245,6 +249,19 @@ public class BeeHelper extends SpeciesRoot implements IBeeRoot {
 			return;
 
 		beeMutations.add((IBeeMutation) mutation);
+		mutationIndex.register((IBeeMutation) mutation);
+	}
+
+	@Override
+	protected MutationIndex<IBeeMutation> getMutationIndex() {
+		return mutationIndex;
+	}
+
+	/**
+	 * @return Mutations which have the given alleles as parents, in random order.
+	 */
+	public static List<IBeeMutation> getMutations(IAllele allele0, IAllele allele1, Random rand) {
+		return mutationIndex.getMutations(allele0, allele1, rand);
 	}
 
 	/* BREEDING MODES */
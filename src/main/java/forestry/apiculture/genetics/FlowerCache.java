@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.genetics;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import net.minecraft.world.World;
+
+import forestry.api.apiculture.IBee;
+import forestry.api.apiculture.IBeeGenome;
+import forestry.api.apiculture.IBeeHousing;
+import forestry.api.genetics.IFlowerProvider;
+import forestry.core.utils.BlockChangeWatcher;
+import forestry.core.utils.Vect;
+
+/**
+ * Remembers where the flowers in the territory of a single bee housing are.
+ *
+ * Known flowers are checked first. Only if none of them is left, the territory is
+ * searched again until the first flower is found; {@link #update} continues the search
+ * a few blocks per tick to remember a few more. Block changes within
+ * the territory restart the search. A finished search without results holds until
+ * something changes or it is {@link #MAX_AGE} ticks old, since not every change causes
+ * a block update.
+ */
+public class FlowerCache implements BlockChangeWatcher.IBlockChangeListener {
+
+	private static final int MAX_KNOWN_FLOWERS = 8;
+	private static final int BLOCKS_PER_TICK = 64;
+	private static final int MAX_AGE = 1200;
+
+	private final List<Vect> flowers = new ArrayList<Vect>();
+
+	private World world;
+	private IFlowerProvider provider;
+	private int minX, minY, minZ;
+	private int sizeX, sizeY, sizeZ;
+
+	private BlockChangeWatcher watcher;
+	private boolean isDirty = true;
+	private boolean isSearchComplete;
+	private long searchCompletedAt;
+	private int searchIndex;
+
+	/**
+	 * @return true if there is at least one flower accepted by the bee in the territory of the housing.
+	 */
+	public boolean hasFlower(IBee bee, IBeeHousing housing) {
+		updateTerritory(bee, housing);
+
+		for (Iterator<Vect> it = flowers.iterator(); it.hasNext();) {
+			Vect flower = it.next();
+			if (provider.isAcceptedFlower(world, bee, flower.x, flower.y, flower.z))
+				return true;
+			it.remove();
+		}
+
+		// Without block change events a finished search can't be trusted.
+		if (watcher == null)
+			isDirty = true;
+		else if (isSearchValid())
+			return false;
+
+		search(bee, Integer.MAX_VALUE, 1);
+		return !flowers.isEmpty();
+	}
+
+	/**
+	 * Continues the search for flowers if none or only a few are known.
+	 */
+	public void update(IBee bee) {
+		if (provider == null || bee.getGenome().getFlowerProvider() != provider)
+			return;
+
+		if (flowers.isEmpty()) {
+			if (isSearchValid())
+				return;
+		} else if (flowers.size() >= MAX_KNOWN_FLOWERS || isSearchComplete || isDirty)
+			return;
+
+		search(bee, BLOCKS_PER_TICK, MAX_KNOWN_FLOWERS);
+	}
+
+	@Override
+	public void onBlockChange(int x, int y, int z) {
+		isDirty = true;
+	}
+
+	private void search(IBee bee, int limit, int maxFlowers) {
+		if (isDirty) {
+			searchIndex = 0;
+			isSearchComplete = false;
+			isDirty = false;
+		}
+
+		int volume = sizeX * sizeY * sizeZ;
+		for (int checked = 0; checked < limit && searchIndex < volume; checked++) {
+			int x = minX + searchIndex / (sizeY * sizeZ);
+			int y = minY + (searchIndex / sizeZ) % sizeY;
+			int z = minZ + searchIndex % sizeZ;
+			searchIndex++;
+
+			if (provider.isAcceptedFlower(world, bee, x, y, z)) {
+				flowers.add(new Vect(x, y, z));
+				if (flowers.size() >= maxFlowers)
+					return;
+			}
+		}
+
+		if (searchIndex >= volume && !isSearchComplete) {
+			isSearchComplete = true;
+			searchCompletedAt = world.getTotalWorldTime();
+		}
+	}
+
+	/**
+	 * @return true if the last finished search is still recent and nothing changed since.
+	 */
+	private boolean isSearchValid() {
+		if (!isSearchComplete || isDirty)
+			return false;
+
+		long age = world.getTotalWorldTime() - searchCompletedAt;
+		if (age >= 0 && age < MAX_AGE)
+			return true;
+
+		isDirty = true;
+		return false;
+	}
+
+	private void updateTerritory(IBee bee, IBeeHousing housing) {
+		IBeeGenome genome = bee.getGenome();
+		IFlowerProvider provider = genome.getFlowerProvider();
+
+		int[] territory = genome.getTerritory();
+		float modifier = housing.getTerritoryModifier(genome, 1f);
+		int sizeX = Math.max(1, (int) (territory[0] * modifier));
+		int sizeY = Math.max(1, (int) (territory[1] * modifier));
+		int sizeZ = Math.max(1, (int) (territory[2] * modifier));
+
+		int minX = housing.getXCoord() - sizeX / 2;
+		int minY = housing.getYCoord() - sizeY / 2;
+		int minZ = housing.getZCoord() - sizeZ / 2;
+
+		if (housing.getWorld() == world && provider == this.provider && minX == this.minX && minY == this.minY && minZ == this.minZ
+				&& sizeX == this.sizeX && sizeY == this.sizeY && sizeZ == this.sizeZ)
+			return;
+
+		this.world = housing.getWorld();
+		this.provider = provider;
+		this.minX = minX;
+		this.minY = minY;
+		this.minZ = minZ;
+		this.sizeX = sizeX;
+		this.sizeY = sizeY;
+		this.sizeZ = sizeZ;
+
+		flowers.clear();
+		isDirty = true;
+
+		if (watcher != null)
+			watcher.unwatch(this);
+		watcher = BlockChangeWatcher.get(world);
+		if (watcher != null)
+			watcher.watch(this, minX, minY, minZ, minX + sizeX - 1, minY + sizeY - 1, minZ + sizeZ - 1);
+	}
+}
@@ -10,14 +10,13 @@
  ******************************************************************************/
 package forestry.apiculture.genetics;
 
-import java.util.List;
-
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.util.AxisAlignedBB;
 
 import forestry.api.apiculture.IAlleleBeeSpecies;
 import forestry.api.apiculture.IBeeGenome;
 import forestry.api.apiculture.IBeeHousing;
+import forestry.core.utils.EntitySnapshot;
 
 /**
  * Hermits will not produce if there are any other living creatures nearby.
@@ -28,9 +27,7 @@ public class JubilanceProviderHermit extends JubilanceDefault {
 	public boolean isJubilant(IAlleleBeeSpecies species, IBeeGenome genome, IBeeHousing housing) {
 		AxisAlignedBB bounding = this.getBounding(genome, housing, 1.0f);
 
-		@SuppressWarnings("rawtypes")
-		List list = housing.getWorld().getEntitiesWithinAABB(EntityLiving.class, bounding);
-		if (list.size() > 0)
+		if (EntitySnapshot.get(housing.getWorld()).hasEntities(EntityLiving.class, bounding))
 			return false;
 
 		return true;
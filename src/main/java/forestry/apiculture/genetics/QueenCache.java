@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.apiculture.genetics;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import forestry.api.apiculture.IBee;
+import forestry.plugins.PluginApiculture;
+
+/**
+ * Holds the decoded bee for the queen slot of a single bee housing.
+ *
+ * The bee is only decoded again if the stack in the slot is replaced or its tag
+ * compound changes. Changes made by the housing itself (aging) are written back
+ * as single tag updates instead of re-serializing the whole bee. Hashing the tag
+ * walks all of it, so changes made in place by others are only looked for every
+ * {@link #REVALIDATE_INTERVAL} calls.
+ */
+public class QueenCache {
+
+	private static final int REVALIDATE_INTERVAL = 20;
+
+	private static long hits;
+	private static long misses;
+
+	private ItemStack cachedStack;
+	private NBTTagCompound cachedTag;
+	private int cachedHash;
+	private int callsSinceCheck;
+	private IBee cachedBee;
+
+	/**
+	 * @return The decoded bee for the given stack, or null if the stack does not contain a bee.
+	 */
+	public IBee getBee(ItemStack stack) {
+		if (stack == null) {
+			clear();
+			return null;
+		}
+
+		NBTTagCompound tag = stack.getTagCompound();
+		if (cachedBee != null && stack == cachedStack && tag == cachedTag) {
+			if (tag == null || ++callsSinceCheck < REVALIDATE_INTERVAL) {
+				hits++;
+				return cachedBee;
+			}
+
+			callsSinceCheck = 0;
+			if (tag.hashCode() == cachedHash) {
+				hits++;
+				return cachedBee;
+			}
+		}
+
+		misses++;
+		cachedStack = stack;
+		cachedTag = tag;
+		cachedHash = tag != null ? tag.hashCode() : 0;
+		callsSinceCheck = 0;
+		cachedBee = PluginApiculture.beeInterface.getMember(stack);
+		return cachedBee;
+	}
+
+	/**
+	 * Writes the health of the cached bee back into the tag of the cached stack.
+	 */
+	public void writeHealth(ItemStack stack, IBee bee) {
+		if (stack == null)
+			return;
+
+		NBTTagCompound tag = stack.getTagCompound();
+		if (stack != cachedStack || bee != cachedBee || tag == null || tag != cachedTag) {
+			// Someone swapped the stack under us, fall back to a full write.
+			NBTTagCompound nbttagcompound = new NBTTagCompound();
+			bee.writeToNBT(nbttagcompound);
+			stack.setTagCompound(nbttagcompound);
+			clear();
+			return;
+		}
+
+		tag.setInteger("Health", bee.getHealth());
+		cachedHash = tag.hashCode();
+	}
+
+	public void clear() {
+		cachedStack = null;
+		cachedTag = null;
+		cachedHash = 0;
+		callsSinceCheck = 0;
+		cachedBee = null;
+	}
+
+	/* STATISTICS */
+	public static long getHits() {
+		return hits;
+	}
+
+	public static long getMisses() {
+		return misses;
+	}
+
+	public static float getHitRate() {
+		long total = hits + misses;
+		if (total == 0)
+			return 0f;
+		return (float) hits / total;
+	}
+
+	public static void resetStatistics() {
+		hits = 0;
+		misses = 0;
+	}
+}
@@ -71,7 +71,7 @@ public class ItemBeeGE extends ItemGE {
 		if (itemstack.getTagCompound() == null)
 			return StringUtil.localize(type.getName());
 
-		IBee individual = new Bee(itemstack.getTagCompound());
+		IIndividual individual = getCachedIndividual(itemstack);
 		return individual.getDisplayName() + StringUtil.localize(type.getName() + ".adj.add") + " " + StringUtil.localize(type.getName());
 	}
 
@@ -82,7 +82,7 @@ public class ItemBeeGE extends ItemGE {
 			return;
 
 		if(type != EnumBeeType.DRONE) {
-			IBee individual = new Bee(itemstack.getTagCompound());
+			IBee individual = (IBee) getCachedIndividual(itemstack);
 			if (individual.isNatural())
 				list.add("\u00A7e\u00A7o" + StringUtil.localize("bees.stock.pristine"));
 			else
@@ -123,7 +123,7 @@ public class ItemBeeGE extends ItemGE {
 		if (!itemstack.hasTagCompound())
 			return super.getColorFromItemStack(itemstack, renderPass);
 
-		return getColourFromSpecies(PluginApiculture.beeInterface.getMember(itemstack).getGenome().getPrimary(), renderPass);
+		return getColourFromSpecies(getCachedIndividual(itemstack).getGenome().getPrimary(), renderPass);
 	}
 
 	@Override
@@ -158,7 +158,11 @@ public class ItemBeeGE extends ItemGE {
 	@SideOnly(Side.CLIENT)
 	@Override
 	public IIcon getIcon(ItemStack itemstack, int renderPass) {
-		return getIconFromSpecies(PluginApiculture.beeInterface.getMember(itemstack).getGenome().getPrimary(), renderPass);
+		IIndividual individual = getCachedIndividual(itemstack);
+		if (individual == null)
+			return getIconFromSpecies(null, renderPass);
+
+		return getIconFromSpecies((IAlleleBeeSpecies) individual.getGenome().getPrimary(), renderPass);
 	}
 
 	@SideOnly(Side.CLIENT)
@@ -10,9 +10,13 @@
  ******************************************************************************/
 package forestry.apiculture.worldgen;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Random;
+import java.util.Set;
 
 import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
 
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
@@ -56,21 +60,49 @@ public class HiveDecorator {
 	}
 
 	private void decorateHives(World world, Random rand, int worldX, int worldZ) {
-		genHive(world, rand, worldX, worldZ, 42, 3, forest);
-		genHive(world, rand, worldX, worldZ, 62, 4, jungle);
-		genHive(world, rand, worldX, worldZ, 42, 1, meadows);
-		genHive(world, rand, worldX, worldZ, 42, 1, parched);
-		genHive(world, rand, worldX, worldZ, 42, 4, end);
-		genHive(world, rand, worldX, worldZ, 42, 2, snow);
-		genHive(world, rand, worldX, worldZ, 42, 2, swamp);
+		// Hive types which cannot generate in any of this chunk's biomes skip all block lookups.
+		Set<BiomeGenBase> biomes = getChunkBiomes(world, worldX, worldZ);
+
+		genHive(world, rand, biomes, worldX, worldZ, 42, 3, forest);
+		genHive(world, rand, biomes, worldX, worldZ, 62, 4, jungle);
+		genHive(world, rand, biomes, worldX, worldZ, 42, 1, meadows);
+		genHive(world, rand, biomes, worldX, worldZ, 42, 1, parched);
+		genHive(world, rand, biomes, worldX, worldZ, 42, 4, end);
+		genHive(world, rand, biomes, worldX, worldZ, 42, 2, snow);
+		genHive(world, rand, biomes, worldX, worldZ, 42, 2, swamp);
+	}
+
+	private static Set<BiomeGenBase> getChunkBiomes(World world, int worldX, int worldZ) {
+		Set<BiomeGenBase> biomes = Collections.newSetFromMap(new IdentityHashMap<BiomeGenBase, Boolean>());
+		for (BiomeGenBase biome : world.getWorldChunkManager().getBiomeGenAt(null, worldX, worldZ, 16, 16, true))
+			if (biome != null)
+				biomes.add(biome);
+		return biomes;
 	}
 
-	private void genHive(World world, Random rand, int worldX, int worldZ, int height, int attempts, WorldGenHive gen) {
+	private static boolean hasValidBiome(Set<BiomeGenBase> biomes, WorldGenHive gen) {
+		for (BiomeGenBase biome : biomes)
+			if (gen.isValidBiome(biome))
+				return true;
+		return false;
+	}
+
+	private void genHive(World world, Random rand, Set<BiomeGenBase> biomes, int worldX, int worldZ, int height, int attempts, WorldGenHive gen) {
+		boolean skip = !hasValidBiome(biomes, gen);
+
 		for (int i = 0; i < attempts; i++) {
+			// Skipped attempts still draw their position, so the hives and everything populated after them stay the same for a seed.
 			int randPosX = worldX + rand.nextInt(16);
 			int randPosY = height + rand.nextInt(50);
 			int randPosZ = worldZ + rand.nextInt(16);
-			if (gen.generate(world, rand, randPosX, randPosY, randPosZ))
+			if (skip)
+				continue;
+			// Chunks on a biome border may still have the wrong biome at this position.
+			if (!gen.isValidBiome(world.getWorldChunkManager().getBiomeGenAt(randPosX, randPosZ)))
+				continue;
+			if (!gen.canGenerateAt(world, randPosX, randPosY, randPosZ))
+				continue;
+			if (gen.tryPlace(world, rand, randPosX, randPosY, randPosZ))
 				return;
 		}
 	}
@@ -15,6 +15,7 @@ import java.util.Random;
 import net.minecraft.block.Block;
 import net.minecraft.init.Blocks;
 import net.minecraft.world.World;
+import net.minecraft.world.biome.BiomeGenBase;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
 import net.minecraftforge.common.IPlantable;
@@ -25,7 +26,34 @@ import forestry.core.config.ForestryBlock;
 public abstract class WorldGenHive extends WorldGenerator {
 
 	@Override
-	public abstract boolean generate(World world, Random random, int x, int y, int z);
+	public boolean generate(World world, Random random, int x, int y, int z) {
+		if (!isValidBiome(world.getWorldChunkManager().getBiomeGenAt(x, z)))
+			return false;
+		if (!canGenerateAt(world, x, y, z))
+			return false;
+		return tryPlace(world, random, x, y, z);
+	}
+
+	/**
+	 * @return false if hives of this type never generate in the given biome.
+	 */
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return true;
+	}
+
+	/**
+	 * Cheap height map check done before any block lookups. Ground hives need an opaque block below them, so they are never above the height map.
+	 * 
+	 * @return false if a hive can certainly not be placed at the given position.
+	 */
+	public boolean canGenerateAt(World world, int x, int y, int z) {
+		return y <= world.getHeightValue(x, z);
+	}
+
+	/**
+	 * Places the hive if the blocks around the given position allow it. The biome is expected to have been checked already.
+	 */
+	public abstract boolean tryPlace(World world, Random random, int x, int y, int z);
 
 	protected boolean tryPlaceTreeHive(World world, int x, int y, int z, int meta) {
 		if (!world.isAirBlock(x, y, z))
@@ -19,12 +19,12 @@ import net.minecraft.world.biome.BiomeGenBase;
 public class WorldGenHiveEnd extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
-
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (biome.biomeID != BiomeGenBase.sky.biomeID)
-			return false;
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return biome.biomeID == BiomeGenBase.sky.biomeID;
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		return tryPlaceGroundHive(world, x, y, z, 5, Blocks.end_stone);
 	}
 }
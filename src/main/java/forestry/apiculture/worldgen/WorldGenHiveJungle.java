@@ -21,13 +21,19 @@ import forestry.api.core.EnumTemperature;
 public class WorldGenHiveJungle extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return EnumTemperature.getFromValue(biome.temperature) == EnumTemperature.WARM
+				&& EnumHumidity.getFromValue(biome.rainfall) == EnumHumidity.DAMP;
+	}
 
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.WARM
-				|| EnumHumidity.getFromValue(biome.rainfall) != EnumHumidity.DAMP)
-			return false;
+	@Override
+	public boolean canGenerateAt(World world, int x, int y, int z) {
+		// Needs leaves above, which are part of the height map.
+		return y + 2 <= world.getHeightValue(x, z);
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		return tryPlaceTreeHive(world, x, y, z, 4);
 	}
 }
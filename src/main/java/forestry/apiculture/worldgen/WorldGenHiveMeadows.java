@@ -22,13 +22,13 @@ import forestry.api.core.EnumTemperature;
 public class WorldGenHiveMeadows extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
-
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.NORMAL
-				|| EnumHumidity.getFromValue(biome.rainfall) != EnumHumidity.NORMAL)
-			return false;
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return EnumTemperature.getFromValue(biome.temperature) == EnumTemperature.NORMAL
+				&& EnumHumidity.getFromValue(biome.rainfall) == EnumHumidity.NORMAL;
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		return tryPlaceGroundHive(world, x, y, z, 2, Blocks.dirt, Blocks.grass);
 	}
 }
@@ -22,13 +22,13 @@ import forestry.api.core.EnumTemperature;
 public class WorldGenHiveParched extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
-
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.HOT
-				|| EnumHumidity.getFromValue(biome.rainfall) != EnumHumidity.ARID)
-			return false;
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return EnumTemperature.getFromValue(biome.temperature) == EnumTemperature.HOT
+				&& EnumHumidity.getFromValue(biome.rainfall) == EnumHumidity.ARID;
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		return tryPlaceGroundHive(world, x, y, z, 3, Blocks.sand, Blocks.sandstone);
 	}
 }
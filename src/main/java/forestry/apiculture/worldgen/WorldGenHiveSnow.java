@@ -21,13 +21,13 @@ import forestry.api.core.EnumTemperature;
 public class WorldGenHiveSnow extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
-
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.ICY
-				&& EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.COLD)
-			return false;
+	public boolean isValidBiome(BiomeGenBase biome) {
+		EnumTemperature temperature = EnumTemperature.getFromValue(biome.temperature);
+		return temperature == EnumTemperature.ICY || temperature == EnumTemperature.COLD;
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		if (tryPlaceGroundHive(world, x, y, z, 6, Blocks.dirt, Blocks.grass)) {
 			world.setBlock(x, y + 1, z, Blocks.snow_layer, 0, 0);
 			return true;
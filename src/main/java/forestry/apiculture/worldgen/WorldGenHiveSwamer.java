@@ -31,7 +31,12 @@ public class WorldGenHiveSwamer extends WorldGenHive {
 	}
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
+	public boolean canGenerateAt(World world, int x, int y, int z) {
+		return true;
+	}
+
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		if (world.blockExists(x, y, z) && world.isAirBlock(x, y, z) && (!world.isAirBlock(x, y - 1, z) || !world.isAirBlock(x, y + 1, z))) {
 			setHive(world, x, y, z, 8);
 			return true;
@@ -22,13 +22,13 @@ import forestry.api.core.EnumTemperature;
 public class WorldGenHiveSwamp extends WorldGenHive {
 
 	@Override
-	public boolean generate(World world, Random random, int x, int y, int z) {
-
-		BiomeGenBase biome = world.getWorldChunkManager().getBiomeGenAt(x, z);
-		if (EnumTemperature.getFromValue(biome.temperature) != EnumTemperature.NORMAL
-				|| EnumHumidity.getFromValue(biome.rainfall) != EnumHumidity.DAMP)
-			return false;
+	public boolean isValidBiome(BiomeGenBase biome) {
+		return EnumTemperature.getFromValue(biome.temperature) == EnumTemperature.NORMAL
+				&& EnumHumidity.getFromValue(biome.rainfall) == EnumHumidity.DAMP;
+	}
 
+	@Override
+	public boolean tryPlace(World world, Random random, int x, int y, int z) {
 		return tryPlaceGroundHive(world, x, y, z, 7, Blocks.dirt, Blocks.grass);
 	}
 }
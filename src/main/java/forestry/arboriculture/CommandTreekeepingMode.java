@@ -103,6 +103,11 @@ public class CommandTreekeepingMode extends CommandMC {
 				throw new WrongUsageException("/" + this.getCommandName() + " save <player-name>");
 
 			saveStatistics(sender, arguments);
+		} else if (arguments[0].matches("ripening")) {
+			sendChatMessage(sender, String.format("Ripening packets: %s for %s leaves (%.2f per second).", RipeningSynchronizer.getPacketsSent(),
+					RipeningSynchronizer.getLeavesSent(), RipeningSynchronizer.getPacketsPerSecond()));
+			if (arguments.length > 1 && arguments[1].matches("reset"))
+				RipeningSynchronizer.resetStatistics();
 		} else if (arguments[0].matches("help")) {
 			sendChatMessage(sender, "Format: '/" + this.getCommandName() + " <command> <arguments>'");
 			sendChatMessage(sender, "Available commands:");
@@ -110,6 +115,7 @@ public class CommandTreekeepingMode extends CommandMC {
 			sendChatMessage(sender, "- info <mode-name> : information on treekeeping mode.");
 			sendChatMessage(sender, "- set [<world-#>] <mode-name>: set treekeeping mode for world.");
 			sendChatMessage(sender, "- save [<world-#>] <player-name>: save treekeeping statistics for the given player.");
+			sendChatMessage(sender, "- ripening [reset]: fruit ripening packet statistics.");
 		}
 	}
 
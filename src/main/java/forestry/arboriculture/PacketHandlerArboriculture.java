@@ -14,9 +14,11 @@ import java.io.DataInputStream;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
 
 import forestry.arboriculture.gadgets.TileLeaves;
 import forestry.arboriculture.network.PacketLeafUpdate;
+import forestry.arboriculture.network.PacketRipeningUpdate;
 import forestry.core.interfaces.IPacketHandler;
 import forestry.core.network.ILocatedPacket;
 import forestry.core.network.PacketIds;
@@ -34,6 +36,11 @@ public class PacketHandlerArboriculture implements IPacketHandler {
 				packet.readData(data);
 				onLeafUpdate(packet);
 				break;
+			case PacketIds.LEAF_RIPENING_UPDATE:
+				PacketRipeningUpdate ripening = new PacketRipeningUpdate();
+				ripening.readData(data);
+				onRipeningUpdate(ripening);
+				break;
 			}
 
 		} catch(Exception ex) {
@@ -49,5 +56,19 @@ public class PacketHandlerArboriculture implements IPacketHandler {
 
 	}
 
+	private void onRipeningUpdate(PacketRipeningUpdate packet) {
+
+		World world = Proxies.common.getRenderWorld();
+		if (world == null)
+			return;
+
+		for (int i = 0; i < packet.size; i++) {
+			TileEntity tile = world.getTileEntity(packet.getPosX(i), packet.getPosY(i), packet.getPosZ(i));
+			if (tile instanceof TileLeaves)
+				((TileLeaves) tile).fromRipeningUpdate(packet.coloursFruits[i], packet.textureIndicesFruit[i]);
+		}
+
+	}
+
 
 }
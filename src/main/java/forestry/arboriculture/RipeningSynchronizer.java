@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+
+import cpw.mods.fml.common.FMLCommonHandler;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
+
+import forestry.arboriculture.gadgets.TileLeaves;
+import forestry.arboriculture.network.PacketRipeningUpdate;
+import forestry.core.proxy.Proxies;
+
+/**
+ * Collects leaves whose visible fruit changed and sends them as one packet per
+ * chunk every {@link #FLUSH_INTERVAL} ticks.
+ */
+public class RipeningSynchronizer {
+
+	public static final int FLUSH_INTERVAL = 10;
+
+	private static final Map<World, Map<Long, Set<TileLeaves>>> dirty = new WeakHashMap<World, Map<Long, Set<TileLeaves>>>();
+
+	private static long packetsSent;
+	private static long leavesSent;
+	private static long windowStart = System.currentTimeMillis();
+	private static long windowPackets;
+	private static float packetsPerSecond;
+
+	public RipeningSynchronizer() {
+		FMLCommonHandler.instance().bus().register(this);
+	}
+
+	public static void markDirty(TileLeaves leaves) {
+		World world = leaves.getWorldObj();
+		if (world == null || world.isRemote)
+			return;
+
+		Map<Long, Set<TileLeaves>> chunks = dirty.get(world);
+		if (chunks == null) {
+			chunks = new HashMap<Long, Set<TileLeaves>>();
+			dirty.put(world, chunks);
+		}
+
+		Long key = ChunkCoordIntPair.chunkXZ2Int(leaves.xCoord >> 4, leaves.zCoord >> 4);
+		Set<TileLeaves> pending = chunks.get(key);
+		if (pending == null) {
+			pending = new LinkedHashSet<TileLeaves>();
+			chunks.put(key, pending);
+		}
+		pending.add(leaves);
+	}
+
+	/**
+	 * Drops the leaves still queued for an unloading world. They reference their world, so the entry would otherwise keep it alive.
+	 */
+	public static void detach(World world) {
+		dirty.remove(world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(WorldTickEvent event) {
+		if (event.phase != Phase.END)
+			return;
+		if (event.world.getTotalWorldTime() % FLUSH_INTERVAL != 0)
+			return;
+
+		Map<Long, Set<TileLeaves>> chunks = dirty.get(event.world);
+		if (chunks == null || chunks.isEmpty())
+			return;
+
+		for (Set<TileLeaves> pending : chunks.values())
+			flush(event.world, pending);
+		chunks.clear();
+	}
+
+	private static void flush(World world, Set<TileLeaves> pending) {
+		PacketRipeningUpdate packet = null;
+		for (TileLeaves leaves : pending) {
+			if (leaves.isInvalid())
+				continue;
+
+			if (packet == null)
+				packet = new PacketRipeningUpdate(leaves.xCoord >> 4, leaves.zCoord >> 4, Math.min(pending.size(), PacketRipeningUpdate.MAX_ENTRIES));
+			packet.add(leaves.xCoord, leaves.yCoord, leaves.zCoord, leaves.getSyncedFruitColour(), leaves.getSyncedFruitIndex());
+
+			if (packet.isFull()) {
+				send(world, packet);
+				packet = null;
+			}
+		}
+
+		if (packet != null)
+			send(world, packet);
+	}
+
+	private static void send(World world, PacketRipeningUpdate packet) {
+		Proxies.net.sendNetworkPacket(packet, world, packet.chunkX << 4, 0, packet.chunkZ << 4);
+
+		packetsSent++;
+		leavesSent += packet.size;
+
+		long now = System.currentTimeMillis();
+		windowPackets++;
+		if (now - windowStart >= 1000) {
+			packetsPerSecond = windowPackets * 1000f / (now - windowStart);
+			windowStart = now;
+			windowPackets = 0;
+		}
+	}
+
+	/* STATISTICS */
+	public static long getPacketsSent() {
+		return packetsSent;
+	}
+
+	public static long getLeavesSent() {
+		return leavesSent;
+	}
+
+	/**
+	 * @return Ripening packets sent per second, averaged over the last full second. Drops to 0 once a second passes without any.
+	 */
+	public static float getPacketsPerSecond() {
+		long elapsed = System.currentTimeMillis() - windowStart;
+		if (elapsed >= 1000)
+			return windowPackets * 1000f / elapsed;
+		return packetsPerSecond;
+	}
+
+	public static void resetStatistics() {
+		packetsSent = 0;
+		leavesSent = 0;
+		windowStart = System.currentTimeMillis();
+		windowPackets = 0;
+		packetsPerSecond = 0;
+	}
+}
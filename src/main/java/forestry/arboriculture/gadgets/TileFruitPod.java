@@ -130,11 +130,11 @@ public class TileFruitPod extends TileEntity implements INetworkedEntity, IFruit
 
 	@Override
 	public void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(toPacket(), xCoord, yCoord, zCoord);
+		Proxies.net.sendNetworkPacket(toPacket(), worldObj, xCoord, yCoord, zCoord);
 	}
 
 	private void sendNetworkUpdateRipening() {
-		Proxies.net.sendNetworkPacket(new PacketUpdate(PacketIds.TILE_UPDATE, xCoord, yCoord, zCoord, maturity), xCoord, yCoord, zCoord);
+		Proxies.net.sendNetworkPacket(new PacketUpdate(PacketIds.TILE_UPDATE, xCoord, yCoord, zCoord, maturity), worldObj, xCoord, yCoord, zCoord);
 	}
 
 	private ForestryPacket toPacket() {
@@ -42,13 +42,16 @@ import forestry.api.genetics.IPollinatable;
 import forestry.api.lepidopterology.IButterfly;
 import forestry.api.lepidopterology.IButterflyNursery;
 import forestry.api.lepidopterology.IButterflyRoot;
+import forestry.arboriculture.RipeningSynchronizer;
 import forestry.arboriculture.network.PacketLeafUpdate;
 import forestry.core.genetics.Allele;
 import forestry.core.network.ForestryPacket;
 import forestry.core.proxy.Proxies;
 import forestry.core.render.TextureManager;
 import forestry.core.utils.Utils;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.plugins.PluginArboriculture;
+import forestry.plugins.PluginLepidopterology;
 
 public class TileLeaves extends TileTreeContainer implements IPollinatable, IFruitBearer, IButterflyNursery {
 
@@ -58,6 +61,10 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 	private short textureIndexPlain = 64;
 	private short textureIndexFruits = -1;
 
+	// Fruit state last handed to clients, server side only.
+	private int syncedColourFruits;
+	private short syncedTextureIndexFruits = -1;
+
 	private boolean isFruitLeaf;
 	private boolean isPollinatedState;
 	private int ripeningTime;
@@ -277,33 +284,60 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 	/* NETWORK */
 	@Override
 	public Packet getDescriptionPacket() {
-		return new PacketLeafUpdate(xCoord, yCoord, zCoord, this).getPacket();
+		return createLeafUpdate().getPacket();
 	}
 
 	@Override
 	public void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketLeafUpdate(xCoord, yCoord, zCoord, this), xCoord, yCoord, zCoord);
+		Proxies.net.sendNetworkPacket(createLeafUpdate(), worldObj, xCoord, yCoord, zCoord);
+	}
+
+	private PacketLeafUpdate createLeafUpdate() {
+		PacketLeafUpdate packet = new PacketLeafUpdate(xCoord, yCoord, zCoord, this);
+		syncedColourFruits = packet.colourFruits;
+		syncedTextureIndexFruits = packet.textureIndexFruit;
+		return packet;
 	}
 
+	/**
+	 * Queues a ripening update if the fruit looks different from what clients were last sent.
+	 */
 	private void sendNetworkUpdateRipening() {
-		Proxies.net.sendNetworkPacket(new PacketLeafUpdate(xCoord, yCoord, zCoord, determineFruitColour()), xCoord, yCoord, zCoord);
+		int colour = determineFruitColour();
+		short overlay = determineOverlayIndex();
+		if (colour == syncedColourFruits && overlay == syncedTextureIndexFruits)
+			return;
+
+		syncedColourFruits = colour;
+		syncedTextureIndexFruits = overlay;
+		RipeningSynchronizer.markDirty(this);
+	}
+
+	public int getSyncedFruitColour() {
+		return syncedColourFruits;
+	}
+
+	public short getSyncedFruitIndex() {
+		return syncedTextureIndexFruits;
+	}
+
+	public void fromRipeningUpdate(int colour, short overlay) {
+		colourFruits = colour;
+		textureIndexFruits = overlay;
+		worldObj.func_147479_m(xCoord, yCoord, zCoord);
 	}
 
 	@Override
 	public void fromPacket(ForestryPacket packetRaw) {
 
 		PacketLeafUpdate packet = (PacketLeafUpdate)packetRaw;
-		if(packet.isRipeningUpdate()) {
-			colourFruits = packet.colourFruits;
-		} else {
-			isFruitLeaf = packet.isFruitLeaf();
-			isPollinatedState = packet.isPollinated();
-			textureIndexFancy = packet.textureIndexFancy;
-			textureIndexPlain = packet.textureIndexPlain;
-			textureIndexFruits = packet.textureIndexFruit;
-			colourLeaves = packet.colourLeaves;
-			colourFruits = packet.colourFruits;
-		}
+		isFruitLeaf = packet.isFruitLeaf();
+		isPollinatedState = packet.isPollinated();
+		textureIndexFancy = packet.textureIndexFancy;
+		textureIndexPlain = packet.textureIndexPlain;
+		textureIndexFruits = packet.textureIndexFruit;
+		colourLeaves = packet.colourLeaves;
+		colourFruits = packet.colourFruits;
 
 		worldObj.func_147479_m(xCoord, yCoord, zCoord);
 	}
@@ -363,7 +397,8 @@ public class TileLeaves extends TileTreeContainer implements IPollinatable, IFru
 		wasDestroyed = !wasDestroyed && isDestroyed() ? true : false;
 
 		if(maturationTime >= (float)caterpillar.getGenome().getLifespan() / (caterpillar.getGenome().getFertility()*2)
-				&& caterpillar.canTakeFlight(worldObj, xCoord, yCoord, zCoord)) {
+				&& caterpillar.canTakeFlight(worldObj, xCoord, yCoord, zCoord)
+				&& ButterflyPopulation.getCount(worldObj) <= PluginLepidopterology.entityConstraint) {
 			if(worldObj.isAirBlock(xCoord - 1, yCoord, zCoord)) {
 				attemptButterflySpawn(worldObj, caterpillar, xCoord - 1, yCoord, zCoord);
 			} else if(worldObj.isAirBlock(xCoord + 1, yCoord, zCoord)) {
@@ -68,7 +68,7 @@ public class TileStairs extends TileEntity implements INetworkedEntity {
 
 	@Override
 	public void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketTileNBT(PacketIds.TILE_NBT, this), xCoord, yCoord, zCoord);
+		Proxies.net.sendNetworkPacket(new PacketTileNBT(PacketIds.TILE_NBT, this), worldObj, xCoord, yCoord, zCoord);
 	}
 
 	@Override
@@ -102,7 +102,7 @@ public abstract class TileTreeContainer extends TileEntity implements INetworked
 
 	@Override
 	public void sendNetworkUpdate() {
-		Proxies.net.sendNetworkPacket(new PacketTileNBT(PacketIds.TILE_NBT, this), xCoord, yCoord, zCoord);
+		Proxies.net.sendNetworkPacket(new PacketTileNBT(PacketIds.TILE_NBT, this), worldObj, xCoord, yCoord, zCoord);
 	}
 
 	@Override
@@ -44,6 +44,7 @@ import forestry.api.genetics.IGenome;
 import forestry.api.world.ITreeGenData;
 import forestry.core.genetics.Allele;
 import forestry.core.genetics.Chromosome;
+import forestry.core.genetics.GenomeInterner;
 import forestry.core.genetics.Individual;
 import forestry.core.utils.StringUtil;
 import forestry.plugins.PluginArboriculture;
@@ -73,12 +74,13 @@ public class Tree extends Individual implements ITree, ITreeGenData, IPlantable
 
 		super.readFromNBT(nbttagcompound);
 
+		// Genomes are shared between all trees with identical genetics.
 		if (nbttagcompound.hasKey("Genome"))
-			genome = new TreeGenome(nbttagcompound.getCompoundTag("Genome"));
+			genome = GenomeInterner.intern(new TreeGenome(nbttagcompound.getCompoundTag("Genome")));
 		else
-			genome = PluginArboriculture.treeInterface.templateAsGenome(TreeTemplates.getOakTemplate());
+			genome = GenomeInterner.intern(PluginArboriculture.treeInterface.templateAsGenome(TreeTemplates.getOakTemplate()));
 		if (nbttagcompound.hasKey("Mate"))
-			mate = new TreeGenome(nbttagcompound.getCompoundTag("Mate"));
+			mate = GenomeInterner.intern(new TreeGenome(nbttagcompound.getCompoundTag("Mate")));
 
 	}
 
@@ -103,7 +105,7 @@ public class Tree extends Individual implements ITree, ITreeGenData, IPlantable
 	/* INTERACTION */
 	@Override
 	public void mate(ITree other) {
-		mate = new TreeGenome(other.getGenome().getChromosomes());
+		mate = GenomeInterner.intern(new TreeGenome(other.getGenome().getChromosomes()));
 	}
 
 	/* EFFECTS */
@@ -244,9 +246,11 @@ public class Tree extends Individual implements ITree, ITreeGenData, IPlantable
 
 	@Override
 	public ITree copy() {
-		NBTTagCompound nbttagcompound = new NBTTagCompound();
-		this.writeToNBT(nbttagcompound);
-		return new Tree(nbttagcompound);
+		// Genomes are immutable, so the copy can share them instead of doing a NBT round-trip.
+		Tree tree = new Tree(GenomeInterner.intern(genome));
+		tree.mate = GenomeInterner.intern(mate);
+		tree.isAnalyzed = isAnalyzed;
+		return tree;
 	}
 
 	@Override
@@ -357,7 +361,7 @@ public class Tree extends Individual implements ITree, ITreeGenData, IPlantable
 			genome1 = genomeOne;
 		}
 
-		for (ITreeMutation mutation : PluginArboriculture.treeInterface.getMutations(true)) {
+		for (ITreeMutation mutation : TreeHelper.getMutations(allele0, allele1, world.rand)) {
 			float chance = 0;
 
 			// Stop blacklisted species.
@@ -38,13 +38,68 @@ import forestry.plugins.PluginArboriculture;
 public class TreeGenome extends Genome implements ITreeGenome {
 
 	public TreeGenome(IChromosome[] chromosomes) {
-		super(chromosomes);
+		super(hasLegacyChromosomes(chromosomes) ? fillLegacyChromosomes(chromosomes.clone()) : chromosomes);
 	}
 
 	public TreeGenome(NBTTagCompound nbttagcompound) {
 		super(nbttagcompound);
 	}
 
+	@Override
+	public void readFromNBT(NBTTagCompound nbttagcompound) {
+		super.readFromNBT(nbttagcompound);
+		fillLegacyChromosomes(getChromosomes());
+	}
+
+	/* LEGACY HANDLING */
+	/**
+	 * Genomes are shared once interned, so chromosomes missing from older saves are filled in before the genome is handed out instead of on
+	 * first access.
+	 */
+	private static boolean hasLegacyChromosomes(IChromosome[] chromosomes) {
+		if (chromosomes.length != EnumTreeChromosome.values().length)
+			return false;
+
+		return !(getActiveAllele(chromosomes, EnumTreeChromosome.SAPPINESS) instanceof IAlleleFloat)
+				|| !(getActiveAllele(chromosomes, EnumTreeChromosome.PLANT) instanceof AllelePlantType)
+				|| chromosomes[EnumTreeChromosome.MATURATION.ordinal()] == null || chromosomes[EnumTreeChromosome.GIRTH.ordinal()] == null;
+	}
+
+	private static IChromosome[] fillLegacyChromosomes(IChromosome[] chromosomes) {
+		if (!hasLegacyChromosomes(chromosomes))
+			return chromosomes;
+
+		if (!(getActiveAllele(chromosomes, EnumTreeChromosome.SAPPINESS) instanceof IAlleleFloat))
+			chromosomes[EnumTreeChromosome.SAPPINESS.ordinal()] = new Chromosome(Allele.sappinessLowest);
+		if (!(getActiveAllele(chromosomes, EnumTreeChromosome.PLANT) instanceof AllelePlantType))
+			chromosomes[EnumTreeChromosome.PLANT.ordinal()] = new Chromosome(Allele.plantTypeNone);
+		if (chromosomes[EnumTreeChromosome.MATURATION.ordinal()] == null)
+			chromosomes[EnumTreeChromosome.MATURATION.ordinal()] = new Chromosome(Allele.maturationSlowest);
+
+		IChromosome species = chromosomes[EnumTreeChromosome.SPECIES.ordinal()];
+		if (chromosomes[EnumTreeChromosome.GIRTH.ordinal()] == null && species != null)
+			chromosomes[EnumTreeChromosome.GIRTH.ordinal()] = new Chromosome(translateGirth(((IAlleleTreeSpecies) species.getActiveAllele()).getGirth()),
+					translateGirth(((IAlleleTreeSpecies) species.getInactiveAllele()).getGirth()));
+
+		return chromosomes;
+	}
+
+	private static IAllele getActiveAllele(IChromosome[] chromosomes, EnumTreeChromosome chromosome) {
+		IChromosome found = chromosomes[chromosome.ordinal()];
+		return found != null ? found.getActiveAllele() : null;
+	}
+
+	private static IAllele translateGirth(int girth) {
+		switch (girth) {
+		case 2:
+			return Allele.int2;
+		case 3:
+			return Allele.int3;
+		default:
+			return Allele.int1;
+		}
+	}
+
 	@Override
 	public IAlleleTreeSpecies getPrimary() {
 		return (IAlleleTreeSpecies) getActiveAllele(EnumTreeChromosome.SPECIES.ordinal());
@@ -82,57 +137,24 @@ public class TreeGenome extends Genome implements ITreeGenome {
 
 	@Override
 	public float getSappiness() {
-		// FIXME: Legacy handling.
-		if (getChromosomes()[EnumTreeChromosome.SAPPINESS.ordinal()] == null)
-			getChromosomes()[EnumTreeChromosome.SAPPINESS.ordinal()] = new Chromosome(Allele.sappinessLowest);
-
-		IAllele allele = getActiveAllele(EnumTreeChromosome.SAPPINESS.ordinal());
-		// FIXME: More legacy handling
-		if (allele instanceof IAlleleFloat)
-			return ((IAlleleFloat) allele).getValue();
-		else {
-			getChromosomes()[EnumTreeChromosome.SAPPINESS.ordinal()] = new Chromosome(Allele.sappinessLowest);
-			return 0.1f;
-		}
+		return ((IAlleleFloat) getActiveAllele(EnumTreeChromosome.SAPPINESS.ordinal())).getValue();
 	}
 
 	@Override
 	public EnumSet<EnumPlantType> getPlantTypes() {
-		// / FIXME: Needs some legacy handling.
-		if (!(getActiveAllele(EnumTreeChromosome.PLANT.ordinal()) instanceof AllelePlantType))
-			getChromosomes()[EnumTreeChromosome.PLANT.ordinal()] = new Chromosome(Allele.plantTypeNone);
-
 		return ((AllelePlantType) getActiveAllele(EnumTreeChromosome.PLANT.ordinal())).getPlantTypes();
 	}
 
 	@Override
 	public int getMaturationTime() {
-		if (getChromosomes()[EnumTreeChromosome.MATURATION.ordinal()] == null)
-			getChromosomes()[EnumTreeChromosome.MATURATION.ordinal()] = new Chromosome(Allele.maturationSlowest);
-
 		return ((IAlleleInteger) getActiveAllele(EnumTreeChromosome.MATURATION.ordinal())).getValue();
 	}
 
-	private IAllele translateGirth(int girth) {
-		switch (girth) {
-		case 2:
-			return Allele.int2;
-		case 3:
-			return Allele.int3;
-		default:
-			return Allele.int1;
-		}
-	}
-
 	@Override
 	public int getGirth() {
-		if (getChromosomes()[EnumTreeChromosome.GIRTH.ordinal()] == null)
-			getChromosomes()[EnumTreeChromosome.GIRTH.ordinal()] = new Chromosome(translateGirth(getPrimary().getGirth()),
-					translateGirth(getSecondary().getGirth()));
-
 		return ((IAlleleInteger) getActiveAllele(EnumTreeChromosome.GIRTH.ordinal())).getValue();
 	}
-	
+
 	@Override
 	public IAlleleLeafEffect getEffect() {
 		return (IAlleleLeafEffect) getActiveAllele(EnumTreeChromosome.EFFECT.ordinal());
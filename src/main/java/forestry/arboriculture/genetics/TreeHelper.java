@@ -15,8 +15,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map.Entry;
+import java.util.Random;
 
 import net.minecraft.init.Blocks;
 import net.minecraft.item.Item;
@@ -52,6 +54,7 @@ import forestry.arboriculture.gadgets.TileSapling;
 import forestry.core.config.Defaults;
 import forestry.core.config.ForestryBlock;
 import forestry.core.config.ForestryItem;
+import forestry.core.genetics.MutationIndex;
 import forestry.core.genetics.SpeciesRoot;
 import forestry.core.utils.BlockUtil;
 import forestry.plugins.PluginArboriculture;
@@ -349,6 +352,7 @@ public class TreeHelper extends SpeciesRoot implements ITreeRoot {
 
 	/* MUTATIONS */
 	private static ArrayList<ITreeMutation> treeMutations = new ArrayList<ITreeMutation>();
+	private static final MutationIndex<ITreeMutation> mutationIndex = new MutationIndex<ITreeMutation>();
 
 	@Override
 	public ArrayList<ITreeMutation> getMutations(boolean shuffle) {
@@ -367,6 +371,19 @@ public class TreeHelper extends SpeciesRoot implements ITreeRoot {
 			return;
 
 		treeMutations.add((ITreeMutation)mutation);
+		mutationIndex.register((ITreeMutation) mutation);
+	}
+
+	@Override
+	protected MutationIndex<ITreeMutation> getMutationIndex() {
+		return mutationIndex;
+	}
+
+	/**
+	 * @return Mutations which have the given alleles as parents, in random order.
+	 */
+	public static List<ITreeMutation> getMutations(IAllele allele0, IAllele allele1, Random rand) {
+		return mutationIndex.getMutations(allele0, allele1, rand);
 	}
 
 	/* ILEAFTICKHANDLER */
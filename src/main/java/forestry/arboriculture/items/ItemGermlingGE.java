@@ -56,7 +56,7 @@ public class ItemGermlingGE extends ItemGE implements IVariableFermentable {
 	}
 
 	private IAlleleTreeSpecies getPrimarySpecies(ItemStack itemstack) {
-		ITree tree = PluginArboriculture.treeInterface.getMember(itemstack);
+		ITree tree = (ITree) getCachedIndividual(itemstack);
 		if (tree == null)
 			return (IAlleleTreeSpecies) PluginArboriculture.treeInterface.getDefaultTemplate()[EnumTreeChromosome.SPECIES.ordinal()];
 		else
@@ -77,7 +77,7 @@ public class ItemGermlingGE extends ItemGE implements IVariableFermentable {
 	public String getItemStackDisplayName(ItemStack itemstack) {
 		if (!itemstack.hasTagCompound())
 			return "Unknown";
-		IIndividual individual = getIndividual(itemstack);
+		IIndividual individual = getCachedIndividual(itemstack);
 		return individual.getDisplayName() + " " + type.getName();
 	}
 
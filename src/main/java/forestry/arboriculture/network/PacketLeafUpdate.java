@@ -20,8 +20,6 @@ import forestry.core.network.PacketIds;
 
 public class PacketLeafUpdate extends PacketCoordinates {
 
-	public byte isRipeningUpdate = 0;
-	
 	private byte leafState = 0;
 	public short textureIndexFancy;
 	public short textureIndexPlain;
@@ -48,50 +46,28 @@ public class PacketLeafUpdate extends PacketCoordinates {
 		colourFruits = leaves.determineFruitColour();
 	}
 
-	public PacketLeafUpdate(int posX, int posY, int posZ, int fruitColour) {
-		super(PacketIds.LEAF_UPDATE, posX, posY, posZ);
-
-		isRipeningUpdate = 1;
-		colourFruits = fruitColour;
-	}
-
 	@Override
 	public void writeData(DataOutputStream data) throws IOException {
 		super.writeData(data);
 
-		data.writeByte(isRipeningUpdate);
-
-		if(isRipeningUpdate()) {
-			data.writeInt(colourFruits);
-		} else {
-			data.writeByte(leafState);
-			data.writeShort(textureIndexFancy);
-			data.writeShort(textureIndexPlain);
-			data.writeShort(textureIndexFruit);
-			data.writeInt(colourLeaves);
-			data.writeInt(colourFruits);
-		}
+		data.writeByte(leafState);
+		data.writeShort(textureIndexFancy);
+		data.writeShort(textureIndexPlain);
+		data.writeShort(textureIndexFruit);
+		data.writeInt(colourLeaves);
+		data.writeInt(colourFruits);
 	}
 	
 	@Override
 	public void readData(DataInputStream data) throws IOException {
 		super.readData(data);
-		
-		isRipeningUpdate = data.readByte();
-		if(isRipeningUpdate()) {
-			colourFruits = data.readInt();
-		} else {
-			leafState = data.readByte();
-			textureIndexFancy = data.readShort();
-			textureIndexPlain = data.readShort();
-			textureIndexFruit = data.readShort();
-			colourLeaves = data.readInt();
-			colourFruits = data.readInt();
-		}
-	}
-	
-	public boolean isRipeningUpdate() {
-		return isRipeningUpdate != 0;
+
+		leafState = data.readByte();
+		textureIndexFancy = data.readShort();
+		textureIndexPlain = data.readShort();
+		textureIndexFruit = data.readShort();
+		colourLeaves = data.readInt();
+		colourFruits = data.readInt();
 	}
 	
 	public boolean isFruitLeaf() {
@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.arboriculture.network;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import forestry.core.network.ForestryPacket;
+import forestry.core.network.PacketIds;
+
+/**
+ * Fruit colour and overlay of several leaves within a single chunk.
+ */
+public class PacketRipeningUpdate extends ForestryPacket {
+
+	public static final int MAX_ENTRIES = 2048;
+
+	public int chunkX;
+	public int chunkZ;
+
+	public int size;
+	public short[] positions;
+	public int[] coloursFruits;
+	public short[] textureIndicesFruit;
+
+	public PacketRipeningUpdate() {
+	}
+
+	public PacketRipeningUpdate(int chunkX, int chunkZ, int capacity) {
+		super(PacketIds.LEAF_RIPENING_UPDATE);
+		this.chunkX = chunkX;
+		this.chunkZ = chunkZ;
+		this.positions = new short[capacity];
+		this.coloursFruits = new int[capacity];
+		this.textureIndicesFruit = new short[capacity];
+	}
+
+	public void add(int posX, int posY, int posZ, int colourFruits, short textureIndexFruit) {
+		positions[size] = (short) ((posX & 15) << 12 | (posZ & 15) << 8 | posY & 255);
+		coloursFruits[size] = colourFruits;
+		textureIndicesFruit[size] = textureIndexFruit;
+		size++;
+	}
+
+	public boolean isFull() {
+		return size >= positions.length;
+	}
+
+	public int getPosX(int index) {
+		return chunkX << 4 | positions[index] >> 12 & 15;
+	}
+
+	public int getPosY(int index) {
+		return positions[index] & 255;
+	}
+
+	public int getPosZ(int index) {
+		return chunkZ << 4 | positions[index] >> 8 & 15;
+	}
+
+	@Override
+	public void writeData(DataOutputStream data) throws IOException {
+		data.writeInt(chunkX);
+		data.writeInt(chunkZ);
+		data.writeShort(size);
+		for (int i = 0; i < size; i++) {
+			data.writeShort(positions[i]);
+			data.writeInt(coloursFruits[i]);
+			data.writeShort(textureIndicesFruit[i]);
+		}
+	}
+
+	@Override
+	public void readData(DataInputStream data) throws IOException {
+		chunkX = data.readInt();
+		chunkZ = data.readInt();
+		size = data.readShort();
+		positions = new short[size];
+		coloursFruits = new int[size];
+		textureIndicesFruit = new short[size];
+		for (int i = 0; i < size; i++) {
+			positions[i] = data.readShort();
+			coloursFruits[i] = data.readInt();
+			textureIndicesFruit[i] = data.readShort();
+		}
+	}
+}
@@ -21,6 +21,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import forestry.api.core.IPlugin;
 import forestry.api.core.PluginInfo;
 import forestry.core.config.Version;
+import forestry.core.gadgets.StructureLogic;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.CommandMC;
 import forestry.plugins.PluginManager;
@@ -60,12 +61,16 @@ public class CommandForestry extends CommandMC {
 		} else if (arguments[0].matches("plugins")) {
 			commandPlugins(sender, arguments);
 			return;
+		} else if (arguments[0].matches("structures")) {
+			commandStructures(sender, arguments);
+			return;
 		} else if (arguments[0].matches("help")) {
 			sendChatMessage(sender, "Format: '" + this.getCommandName() + " <command> <arguments>'");
 			sendChatMessage(sender, "Available commands:");
 			sendChatMessage(sender, "- version : Version information.");
 			sendChatMessage(sender, "- plugins : list of Forestry plugins.");
 			sendChatMessage(sender, "- plugins info <plugin-name>: information on plugin.");
+			sendChatMessage(sender, "- structures [reset] : multiblock validation statistics.");
 			return;
 		}
 
@@ -82,6 +87,17 @@ public class CommandForestry extends CommandMC {
 				sendChatMessage(sender, "\u00A79" + updateLine);
 	}
 
+	private void commandStructures(ICommandSender sender, String[] arguments) {
+		if (arguments.length > 1 && arguments[1].matches("reset")) {
+			StructureLogic.resetStatistics();
+			sendChatMessage(sender, "Structure validation statistics reset.");
+			return;
+		}
+
+		sendChatMessage(sender, String.format("Structure validations: %s (%.2f per second)", StructureLogic.getValidations(),
+				StructureLogic.getValidationsPerSecond()));
+	}
+
 	private void commandPlugins(ICommandSender sender, String[] arguments) {
 
 		if (arguments.length <= 1)
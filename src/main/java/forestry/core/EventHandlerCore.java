@@ -26,6 +26,7 @@ import forestry.core.interfaces.IOreDictionaryHandler;
 import forestry.core.interfaces.IPickupHandler;
 import forestry.core.interfaces.ISaveEventHandler;
 import forestry.core.render.TextureManager;
+import forestry.core.utils.ItemStackMap;
 import forestry.core.utils.LiquidHelper;
 import forestry.plugins.PluginManager;
 
@@ -56,6 +57,7 @@ public class EventHandlerCore {
 		if (event.isCanceled())
 			return;
 
+		ItemStackMap.onOreRegistration();
 		handleOreRegistration(event.Name, event.Ore);
 	}
 
@@ -12,12 +12,17 @@ package forestry.core;
 
 import net.minecraft.world.World;
 
+import forestry.core.genetics.PollinatableIndex;
 import forestry.core.interfaces.ISaveEventHandler;
+import forestry.core.utils.BlockChangeWatcher;
+import forestry.core.utils.EntitySnapshot;
 
 public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
 	public void onWorldLoad(World world) {
+		BlockChangeWatcher.attach(world);
+		PollinatableIndex.attach(world);
 	}
 
 	@Override
@@ -26,6 +31,9 @@ public class SaveEventHandlerCore implements ISaveEventHandler {
 
 	@Override
 	public void onWorldUnload(World world) {
+		BlockChangeWatcher.detach(world);
+		PollinatableIndex.detach(world);
+		EntitySnapshot.detach(world);
 	}
 
 }
@@ -17,6 +17,7 @@ import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 import cpw.mods.fml.common.gameevent.TickEvent.Phase;
 import cpw.mods.fml.common.gameevent.TickEvent.WorldTickEvent;
 
+import forestry.core.config.Config;
 import forestry.core.interfaces.IResupplyHandler;
 import forestry.plugins.PluginManager;
 
@@ -28,6 +29,7 @@ public class TickHandlerCoreServer {
 	@SubscribeEvent
 	public void onWorldTick(WorldTickEvent event) {
 		if (event.phase != Phase.END) return;
+		if (!Config.enableBackpackResupply) return;
 
 		for (Object obj : event.world.playerEntities) {
 			EntityPlayer player = (EntityPlayer) obj;
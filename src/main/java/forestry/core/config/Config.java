@@ -64,6 +64,7 @@ public class Config {
 
 	// Bees
 	public static boolean clearInvalidChromosomes = false;
+	public static boolean compactGenomes = false;
 
 	// Dungeon loot
 	public static boolean dungeonLootRare = false;
@@ -214,12 +215,16 @@ public class Config {
 		clearGenome.Comment = "set to true to clear chromosomes which contain invalid alleles. might rescue your save if it is crashing after the removal of a bee addon.";
 		clearInvalidChromosomes = Boolean.parseBoolean(clearGenome.Value);
 
+		Property compactGenome = config.get("genetics.compact.genomes", CATEGORY_COMMON, compactGenomes);
+		compactGenome.Comment = "set to true to save genomes in a smaller format with an allele palette. both formats are always read. stacks saved in different formats do not stack with each other, and addons reading the Chromosomes tag cannot read compact genomes.";
+		compactGenomes = Boolean.parseBoolean(compactGenome.Value);
+
 		Property dungeonLootRarity = config.get("difficulty.dungeonloot.rare", CATEGORY_COMMON, false);
 		dungeonLootRarity.Comment = "set to true to make dungeon loot generated by forestry rarer";
 		dungeonLootRare = Boolean.parseBoolean(dungeonLootRarity.Value);
 
 		Property resupplyEnable = config.get("performance.backpacks.resupply", CATEGORY_COMMON, true);
-		resupplyEnable.Comment = "leaving this enabled will cycle the list of active players PER INGAME TICK to check for resupply via backpack. you want to set this to false on busy servers.";
+		resupplyEnable.Comment = "leaving this enabled will check the inventories of active players for resupply via backpack. players whose inventory did not change are only looked at every few ticks.";
 		Config.enableBackpackResupply = Boolean.parseBoolean(resupplyEnable.Value);
 
 		property = config.get("tweaks.hints.disabled", CATEGORY_COMMON, false);
@@ -19,6 +19,7 @@ import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.world.World;
 import forestry.api.core.ITileStructure;
 import forestry.core.proxy.Proxies;
+import forestry.core.utils.BlockChangeWatcher;
 import forestry.core.utils.StringUtil;
 
 public abstract class BlockStructure extends BlockForestry {
@@ -95,6 +96,11 @@ public abstract class BlockStructure extends BlockForestry {
 		if (!(tile instanceof ITileStructure))
 			return;
 
-		((ITileStructure) tile).validateStructure();
+		// Structures watching this block validate once on their next tick, no matter how many neighbours changed.
+		BlockChangeWatcher watcher = BlockChangeWatcher.get(world);
+		if (watcher != null)
+			watcher.markBlockForUpdate(x, y, z);
+		else
+			((ITileStructure) tile).validateStructure();
 	}
 }
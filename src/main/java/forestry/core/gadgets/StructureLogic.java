@@ -14,16 +14,26 @@ import java.util.HashMap;
 
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
 
 import forestry.api.core.IStructureLogic;
 import forestry.api.core.ITileStructure;
 import forestry.core.config.Defaults;
 import forestry.core.gadgets.BlockStructure.EnumStructureState;
+import forestry.core.utils.BlockChangeWatcher;
 import forestry.core.utils.Schemata;
 import forestry.core.utils.Schemata.EnumStructureBlock;
 import forestry.core.utils.Vect;
 
-public abstract class StructureLogic implements IStructureLogic {
+public abstract class StructureLogic implements IStructureLogic, BlockChangeWatcher.IBlockChangeListener {
+
+	/**
+	 * Ticks between the fallback validations of a single structure, in case a change was missed.
+	 */
+	private static final int VALIDATION_INTERVAL = 600;
+
+	private static long validations;
+	private static long statisticsStart = System.currentTimeMillis();
 
 	protected ITileStructure structure;
 	protected TileEntity structureTile;
@@ -34,6 +44,9 @@ public abstract class StructureLogic implements IStructureLogic {
 	protected boolean isRotated = false;
 	protected HashMap<EnumStructureBlock, Integer> metaOnValid = new HashMap<EnumStructureBlock, Integer>();
 
+	private boolean isDirty = true;
+	private BlockChangeWatcher watcher;
+
 	public StructureLogic(String uid, ITileStructure structure) {
 		this.uid = uid;
 		this.structure = structure;
@@ -59,15 +72,107 @@ public abstract class StructureLogic implements IStructureLogic {
 		nbttagcompound.setBoolean("Rotated", isRotated);
 	}
 
+	/* VALIDATION SCHEDULING */
+	/**
+	 * Validates the structure if a block within its bounds changed since the last validation.
+	 * Additionally every structure is validated once per {@link #VALIDATION_INTERVAL} ticks, spread
+	 * over the interval by the position of the structure tile so they don't all run on the same tick.
+	 */
+	public void updateValidation() {
+		World world = structureTile.getWorldObj();
+		if (watcher == null) {
+			watcher = BlockChangeWatcher.get(world);
+			if (watcher != null)
+				watchBounds();
+		}
+
+		if (isDirty || (world.getTotalWorldTime() + getValidationOffset()) % VALIDATION_INTERVAL == 0)
+			validateStructure();
+	}
+
+	/**
+	 * Stops watching block changes. Needs to be called when the structure tile is invalidated or unloaded.
+	 */
+	public void onUnload() {
+		if (watcher != null) {
+			watcher.unwatch(this);
+			watcher = null;
+		}
+	}
+
+	@Override
+	public void onBlockChange(int x, int y, int z) {
+		isDirty = true;
+	}
+
+	private void watchBounds() {
+		int minX, minY, minZ, maxX, maxY, maxZ;
+		minX = minY = minZ = Integer.MAX_VALUE;
+		maxX = maxY = maxZ = Integer.MIN_VALUE;
+
+		for (Schemata schemata : schematas) {
+			if (!schemata.isEnabled())
+				continue;
+
+			for (int i = 0; i < 2; i++) {
+				boolean rotate = i > 0;
+				Vect dimensions = schemata.getDimensions(rotate);
+				int offsetX = rotate ? schemata.getzOffset() : schemata.getxOffset();
+				int offsetZ = rotate ? schemata.getxOffset() : schemata.getzOffset();
+
+				minX = Math.min(minX, structureTile.xCoord + offsetX);
+				minY = Math.min(minY, structureTile.yCoord + schemata.getyOffset());
+				minZ = Math.min(minZ, structureTile.zCoord + offsetZ);
+				maxX = Math.max(maxX, structureTile.xCoord + offsetX + dimensions.x - 1);
+				maxY = Math.max(maxY, structureTile.yCoord + schemata.getyOffset() + schemata.getHeight() - 1);
+				maxZ = Math.max(maxZ, structureTile.zCoord + offsetZ + dimensions.z - 1);
+			}
+		}
+
+		// No enabled schemata, only watch the structure block itself.
+		if (minX > maxX) {
+			minX = maxX = structureTile.xCoord;
+			minY = maxY = structureTile.yCoord;
+			minZ = maxZ = structureTile.zCoord;
+		}
+
+		watcher.watch(this, minX, minY, minZ, maxX, maxY, maxZ);
+	}
+
+	private int getValidationOffset() {
+		int hash = (structureTile.xCoord * 73856093) ^ (structureTile.yCoord * 19349663) ^ (structureTile.zCoord * 83492791);
+		return (hash & Integer.MAX_VALUE) % VALIDATION_INTERVAL;
+	}
+
+	/* STATISTICS */
+	public static long getValidations() {
+		return validations;
+	}
+
+	public static float getValidationsPerSecond() {
+		long elapsed = System.currentTimeMillis() - statisticsStart;
+		if (elapsed <= 0)
+			return 0f;
+		return validations * 1000f / elapsed;
+	}
+
+	public static void resetStatistics() {
+		validations = 0;
+		statisticsStart = System.currentTimeMillis();
+	}
+
 	@Override
 	public void validateStructure() {
 
+		isDirty = false;
+
 		ITileStructure master = structure.getCentralTE();
 		if (!structure.isMaster() && master != null) {
 			master.validateStructure();
 			return;
 		}
 
+		validations++;
 		EnumStructureState state = EnumStructureState.INDETERMINATE;
 
 		boolean rotate = false;
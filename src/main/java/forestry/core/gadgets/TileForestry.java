@@ -134,14 +134,30 @@ public abstract class TileForestry extends TileEntity implements INetworkedEntit
 	}
 
 	// / SMP
+	/**
+	 * Payload last broadcast to all watching players, used to send only changed slots.
+	 */
+	private PacketPayload syncedPayload;
+
 	@Override
 	public void sendNetworkUpdate() {
-		PacketTileUpdate packet = new PacketTileUpdate(this);
-		Proxies.net.sendNetworkPacket(packet, xCoord, yCoord, zCoord);
+		PacketPayload payload = getPacketPayload();
+		int[] changedMask = payload != null ? payload.getChangedMask(syncedPayload) : null;
+
+		PacketTileUpdate packet;
+		if (changedMask != null)
+			packet = new PacketTileUpdate(this, payload.extract(changedMask), changedMask);
+		else
+			packet = new PacketTileUpdate(this, payload, null);
+		syncedPayload = payload;
+
+		Proxies.net.sendNetworkPacket(packet, worldObj, xCoord, yCoord, zCoord);
 	}
 
 	@Override
 	public Packet getDescriptionPacket() {
+		// A single player got newer values than the others, the next update has to be complete.
+		syncedPayload = null;
 		PacketTileUpdate packet = new PacketTileUpdate(this);
 		return packet.getPacket();
 	}
@@ -160,7 +176,17 @@ public abstract class TileForestry extends TileEntity implements INetworkedEntit
 		errorState = packet.getErrorState();
 		owner = packet.getOwner();
 		access = packet.getAccess();
-		fromPacketPayload(packet.payload);
+
+		int[] changedMask = packet.getChangedMask();
+		if (changedMask == null) {
+			fromPacketPayload(packet.payload);
+			return;
+		}
+
+		// Fill in the unchanged slots from our current state.
+		PacketPayload payload = getPacketPayload();
+		if (payload != null && payload.merge(packet.payload, changedMask))
+			fromPacketPayload(payload);
 	}
 
 	public LinkedList<ITrigger> getCustomTriggers() {
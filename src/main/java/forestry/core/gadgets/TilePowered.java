@@ -37,19 +37,15 @@ public abstract class TilePowered extends TileBase implements IPowerHandler, IRe
 
 	@Override
 	public PacketPayload getPacketPayload() {
-		if (!ClassMap.classMappers.containsKey(this.getClass()))
-			ClassMap.classMappers.put(this.getClass(), new ClassMap(this.getClass()));
-
-		ClassMap classmap = ClassMap.classMappers.get(this.getClass());
-		PacketPayload payload = new PacketPayload(classmap.intSize, classmap.floatSize, classmap.stringSize);
+		ClassMap classmap = ClassMap.get(this.getClass());
 
 		try {
-			classmap.setData(this, payload.intPayload, payload.floatPayload, payload.stringPayload, new IndexInPayload(0, 0, 0));
+			return classmap.getPayload(this);
 		} catch (Exception ex) {
 			ex.printStackTrace();
 		}
 
-		return payload;
+		return new PacketPayload(classmap.intSize, classmap.floatSize, classmap.stringSize);
 	}
 
 	@Override
@@ -58,10 +54,7 @@ public abstract class TilePowered extends TileBase implements IPowerHandler, IRe
 		if (payload.isEmpty())
 			return;
 
-		if (!ClassMap.classMappers.containsKey(this.getClass()))
-			ClassMap.classMappers.put(this.getClass(), new ClassMap(this.getClass()));
-
-		ClassMap classmap = ClassMap.classMappers.get(this.getClass());
+		ClassMap classmap = ClassMap.get(this.getClass());
 
 		try {
 			classmap.fromData(this, payload.intPayload, payload.floatPayload, payload.stringPayload, new IndexInPayload(0, 0, 0));
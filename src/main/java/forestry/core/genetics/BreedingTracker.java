@@ -10,10 +10,16 @@
  ******************************************************************************/
 package forestry.core.genetics;
 
-import java.util.ArrayList;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.world.WorldSavedData;
 
 import net.minecraftforge.common.MinecraftForge;
@@ -33,12 +39,22 @@ import forestry.core.proxy.Proxies;
 
 public abstract class BreedingTracker extends WorldSavedData implements IBreedingTracker {
 
-	private ArrayList<String> discoveredSpecies = new ArrayList<String>();
-	private ArrayList<String> discoveredMutations = new ArrayList<String>();
+	private static final String SPECIES_KEY = "SpeciesDiscovered";
+	private static final String MUTATIONS_KEY = "MutationsDiscovered";
+	private static final String DELTA_KEY = "Delta";
+
+	private Set<String> discoveredSpecies = new LinkedHashSet<String>();
+	private Set<String> discoveredMutations = new LinkedHashSet<String>();
 	private String modeName;
 
 	GameProfile username;
 
+	/**
+	 * The player which last received a full copy of the discoveries, which then only gets sent new ones.
+	 */
+	private WeakReference<EntityPlayer> syncedPlayer;
+	private int syncedDimension;
+
 	public BreedingTracker(String s, GameProfile username) {
 		super(s);
 		this.username = username;
@@ -69,17 +85,60 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 	 */
 	protected abstract String getPacketTag();
 
+	/**
+	 * Sends the full tracker to the player the first time after login, respawn or a dimension change.
+	 * Afterwards the discoveries are kept up to date by {@link #synchDiscovery(String, String)} and
+	 * only the remaining data is sent.
+	 */
 	@Override
 	public void synchToPlayer(EntityPlayer player) {
 		setModeName(getCommonTracker(player).getModeName());
+
+		boolean full = !isSyncedTo(player);
 		NBTTagCompound nbttagcompound = new NBTTagCompound();
-		encodeToNBT(nbttagcompound);
+		writeToNBT(nbttagcompound, full);
+		Proxies.net.sendToPlayer(new PacketNBT(PacketIds.GENOME_TRACKER_UPDATE, nbttagcompound), player);
+
+		if (full) {
+			syncedPlayer = new WeakReference<EntityPlayer>(player);
+			syncedDimension = player.dimension;
+		}
+	}
+
+	private boolean isSyncedTo(EntityPlayer player) {
+		return syncedPlayer != null && syncedPlayer.get() == player && syncedDimension == player.dimension;
+	}
+
+	/**
+	 * Sends a single new discovery to the synced player, if any.
+	 */
+	private void synchDiscovery(String species, String mutation) {
+		if (syncedPlayer == null)
+			return;
+
+		EntityPlayer player = syncedPlayer.get();
+		if (player == null || player.isDead || player.dimension != syncedDimension)
+			return;
+
+		NBTTagCompound nbttagcompound = new NBTTagCompound();
+		nbttagcompound.setString("TYPE", getPacketTag());
+		nbttagcompound.setBoolean(DELTA_KEY, true);
+		if (species != null)
+			nbttagcompound.setTag(SPECIES_KEY, writeStrings(Collections.singleton(species)));
+		if (mutation != null)
+			nbttagcompound.setTag(MUTATIONS_KEY, writeStrings(Collections.singleton(mutation)));
 		Proxies.net.sendToPlayer(new PacketNBT(PacketIds.GENOME_TRACKER_UPDATE, nbttagcompound), player);
 	}
 
 	/* HELPER FUNCTIONS TO PREVENT OBFUSCATION OF INTERFACE METHODS */
 	@Override
 	public void decodeFromNBT(NBTTagCompound nbttagcompound) {
+		if (nbttagcompound.getBoolean(DELTA_KEY)) {
+			readStrings(nbttagcompound, SPECIES_KEY, discoveredSpecies);
+			readStrings(nbttagcompound, MUTATIONS_KEY, discoveredMutations);
+			return;
+		}
+
 		readFromNBT(nbttagcompound);
 	}
 
@@ -94,47 +153,84 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 		if (nbttagcompound.hasKey("BMS"))
 			modeName = nbttagcompound.getString("BMS");
 
-		// / SPECIES
-		discoveredSpecies = new ArrayList<String>();
-		int count = nbttagcompound.getInteger("SpeciesCount");
-		for (int i = 0; i < count; i++)
-			discoveredSpecies.add(nbttagcompound.getString("SD" + i));
+		// Partial syncs carry no discoveries, keep the known ones.
+		if (nbttagcompound.hasKey(SPECIES_KEY) || nbttagcompound.hasKey("SpeciesCount")) {
+			discoveredSpecies = new LinkedHashSet<String>();
+			readStrings(nbttagcompound, SPECIES_KEY, discoveredSpecies);
+			// Indexed keys, still written so older versions can read the save
+			int count = nbttagcompound.getInteger("SpeciesCount");
+			for (int i = 0; i < count; i++)
+				if (nbttagcompound.hasKey("SD" + i))
+					discoveredSpecies.add(nbttagcompound.getString("SD" + i));
+		}
 
-		// / MUTATIONS
-		discoveredMutations = new ArrayList<String>();
-		count = nbttagcompound.getInteger("MutationsCount");
-		for (int i = 0; i < count; i++)
-			discoveredMutations.add(nbttagcompound.getString("MD" + i));
+		if (nbttagcompound.hasKey(MUTATIONS_KEY) || nbttagcompound.hasKey("MutationsCount")) {
+			discoveredMutations = new LinkedHashSet<String>();
+			readStrings(nbttagcompound, MUTATIONS_KEY, discoveredMutations);
+			// Indexed keys, still written so older versions can read the save
+			int count = nbttagcompound.getInteger("MutationsCount");
+			for (int i = 0; i < count; i++)
+				if (nbttagcompound.hasKey("MD" + i))
+					discoveredMutations.add(nbttagcompound.getString("MD" + i));
+		}
 
 	}
 
 	@Override
 	public void writeToNBT(NBTTagCompound nbttagcompound) {
+		writeToNBT(nbttagcompound, true);
+	}
+
+	/**
+	 * @param discoveries
+	 *            false to leave out the discovered species and mutations, for syncs to a player which already knows them.
+	 */
+	protected void writeToNBT(NBTTagCompound nbttagcompound, boolean discoveries) {
 
 		if (modeName != null && !modeName.isEmpty())
 			nbttagcompound.setString("BMS", modeName);
 
 		nbttagcompound.setString("TYPE", getPacketTag());
 
+		if (!discoveries)
+			return;
+
 		// / SPECIES
 		nbttagcompound.setInteger("SpeciesCount", discoveredSpecies.size());
-		for (int i = 0; i < discoveredSpecies.size(); i++)
-			if (discoveredSpecies.get(i) != null)
-				nbttagcompound.setString("SD" + i, discoveredSpecies.get(i));
+		int i = 0;
+		for (String species : discoveredSpecies)
+			nbttagcompound.setString("SD" + i++, species);
 
 		// / MUTATIONS
 		nbttagcompound.setInteger("MutationsCount", discoveredMutations.size());
-		for (int i = 0; i < discoveredMutations.size(); i++)
-			if (discoveredMutations.get(i) != null)
-				nbttagcompound.setString("MD" + i, discoveredMutations.get(i));
+		i = 0;
+		for (String mutation : discoveredMutations)
+			nbttagcompound.setString("MD" + i++, mutation);
+
+	}
 
+	private static NBTTagList writeStrings(Collection<String> strings) {
+		NBTTagList list = new NBTTagList();
+		for (String string : strings)
+			list.appendTag(new NBTTagString(string));
+		return list;
+	}
+
+	private static void readStrings(NBTTagCompound nbttagcompound, String key, Collection<String> strings) {
+		NBTTagList list = nbttagcompound.getTagList(key, 8);
+		for (int i = 0; i < list.tagCount(); i++)
+			strings.add(list.getStringTagAt(i));
 	}
 
 	private static final String MUTATION_FORMAT = "%s-%s=%s";
 	@Override
 	public void registerMutation(IMutation mutation) {
-		discoveredMutations.add(String.format(MUTATION_FORMAT, mutation.getAllele0().getUID(), mutation.getAllele1().getUID(), mutation.getTemplate()[0].getUID()));
+		String key = String.format(MUTATION_FORMAT, mutation.getAllele0().getUID(), mutation.getAllele1().getUID(), mutation.getTemplate()[0].getUID());
+		if (!discoveredMutations.add(key))
+			return;
+
 		markDirty();
+		synchDiscovery(null, key);
 		MinecraftForge.EVENT_BUS.post(new ForestryEvent.MutationDiscovered(
 				AlleleManager.alleleRegistry.getSpeciesRoot(this.getPacketTag()),
 				username,
@@ -143,8 +239,12 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public void registerMutation(IAllele allele0, IAllele allele1) {
-		discoveredMutations.add(allele0.getUID() + "-" + allele1.getUID());
+		String key = allele0.getUID() + "-" + allele1.getUID();
+		if (!discoveredMutations.add(key))
+			return;
+
 		markDirty();
+		synchDiscovery(null, key);
 	}
 
 	@Override
@@ -171,8 +271,9 @@ public abstract class BreedingTracker extends WorldSavedData implements IBreedin
 
 	@Override
 	public void registerSpecies(IAlleleSpecies species) {
-		if (!discoveredSpecies.contains(species.getUID())) {
-			discoveredSpecies.add(species.getUID());
+		if (discoveredSpecies.add(species.getUID())) {
+			markDirty();
+			synchDiscovery(species.getUID(), null);
 			MinecraftForge.EVENT_BUS.post(new ForestryEvent.SpeciesDiscovered(
 					AlleleManager.alleleRegistry.getSpeciesRoot(this.getPacketTag()),
 					username,
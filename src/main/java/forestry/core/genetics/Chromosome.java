@@ -21,8 +21,8 @@ import forestry.api.genetics.ILegacyHandler;
 
 public class Chromosome implements IChromosome {
 
-	private static final String UID0_TAG = "UID0";
-	private static final String UID1_TAG = "UID1";
+	static final String UID0_TAG = "UID0";
+	static final String UID1_TAG = "UID1";
 
 	private IAllele primary;
 	private IAllele secondary;
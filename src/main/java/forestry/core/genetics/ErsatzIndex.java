@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.LongHashMap;
+
+import forestry.api.genetics.AlleleManager;
+import forestry.api.genetics.IIndividual;
+import forestry.core.utils.StackUtils;
+
+/**
+ * Hashed lookup of {@link AlleleManager#ersatzSpecimen} by block and metadata.
+ *
+ * The index is rebuilt whenever the number of registered specimens changed.
+ */
+public class ErsatzIndex {
+
+	private static LongHashMap specimens = new LongHashMap();
+	private static final Set<Block> blocks = new HashSet<Block>();
+	private static int indexedSize = -1;
+
+	/**
+	 * @return The ersatz individual for the given block, null if it has none.
+	 */
+	public static synchronized IIndividual getSpecimen(Block block, int meta) {
+		validate();
+		if (!blocks.contains(block))
+			return null;
+
+		// Vanilla leaves keep their decay flags in the upper bits.
+		if (block == Blocks.leaves)
+			meta = meta & 3;
+		return (IIndividual) specimens.getValueByKey(getKey(block, meta));
+	}
+
+	/**
+	 * @return true if at least one ersatz specimen exists for any metadata of the given block.
+	 */
+	public static synchronized boolean hasSpecimens(Block block) {
+		validate();
+		return blocks.contains(block);
+	}
+
+	private static void validate() {
+		if (AlleleManager.ersatzSpecimen.size() == indexedSize)
+			return;
+
+		specimens = new LongHashMap();
+		blocks.clear();
+		for (Map.Entry<ItemStack, IIndividual> entry : AlleleManager.ersatzSpecimen.entrySet()) {
+			Block block = StackUtils.getBlock(entry.getKey());
+			if (block == null)
+				continue;
+
+			blocks.add(block);
+			specimens.add(getKey(block, entry.getKey().getItemDamage()), entry.getValue());
+		}
+		indexedSize = AlleleManager.ersatzSpecimen.size();
+	}
+
+	private static long getKey(Block block, int meta) {
+		return ((long) Block.getIdFromBlock(block) << 32) | (meta & 0xffffffffL);
+	}
+}
@@ -10,9 +10,18 @@
  ******************************************************************************/
 package forestry.core.genetics;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+
+import com.google.common.collect.MapMaker;
 
+import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAllele;
 import forestry.api.genetics.IChromosome;
 import forestry.api.genetics.IGenome;
@@ -22,7 +31,27 @@ public abstract class Genome implements IGenome {
 
 	private static final String SLOT_TAG = "Slot";
 
+	/**
+	 * Compact format: every distinct allele UID is stored once in a palette and chromosomes refer to it by index. The palette travels with the genome,
+	 * since stacks move between worlds and reach clients without any world data.
+	 *
+	 * Only written if enabled in the config. Identical stacks in different formats have different tags and do not stack, and addons may read the
+	 * Chromosomes list directly.
+	 */
+	private static final String VERSION_TAG = "Version";
+	private static final String PALETTE_TAG = "Palette";
+	private static final String GENES_TAG = "Genes";
+	private static final byte COMPACT_VERSION = 1;
+	private static final int NO_ALLELE = 0xff;
+
+	/**
+	 * Fingerprints of genome tags, so that stacks with different genomes can be told apart without a deep tag comparison. Weakly keyed by tag
+	 * identity, tags of stacks are replaced rather than changed in place when the genome changes.
+	 */
+	private static final Map<NBTTagCompound, Long> tagFingerprints = new MapMaker().weakKeys().makeMap();
+
 	private IChromosome[] chromosomes;
+	private long fingerprint;
 
 	// / CONSTRUCTOR
 	public Genome(NBTTagCompound nbttagcompound) {
@@ -44,28 +73,60 @@ public abstract class Genome implements IGenome {
 	@Override
 	public void readFromNBT(NBTTagCompound nbttagcompound) {
 
-		NBTTagList nbttaglist = nbttagcompound.getTagList("Chromosomes", 10);
 		chromosomes = new Chromosome[chromosomes.length];
+		fingerprint = 0;
+		if (nbttagcompound.hasKey(PALETTE_TAG)) {
+			readCompact(nbttagcompound);
+			return;
+		}
+
+		NBTTagList nbttaglist = nbttagcompound.getTagList("Chromosomes", 10);
 		for (int i = 0; i < nbttaglist.tagCount(); i++) {
 			NBTTagCompound nbttagcompound1 = nbttaglist.getCompoundTagAt(i);
 			byte byte0 = nbttagcompound1.getByte(SLOT_TAG);
 			
-			if (byte0 >= 0 && byte0 < chromosomes.length) {
-				Chromosome chromosome = Chromosome.loadChromosomeFromNBT(nbttagcompound1);
-				chromosomes[byte0] = chromosome;
-				
-				if (Config.clearInvalidChromosomes)
-					chromosome.overrideInvalidAlleles(getDefaultTemplate()[byte0], getSpeciesRoot().getKaryotype()[byte0].getAlleleClass());
-				
-				if (chromosome.hasInvalidAlleles(getSpeciesRoot().getKaryotype()[byte0].getAlleleClass()))
-					throw new RuntimeException("Found Chromosome with invalid Alleles. See config option \"genetics.clear.invalid.chromosomes\".");
-			}
+			if (byte0 >= 0 && byte0 < chromosomes.length)
+				setChromosome(byte0, Chromosome.loadChromosomeFromNBT(nbttagcompound1));
 		}
 	}
 
+	private void readCompact(NBTTagCompound nbttagcompound) {
+		byte version = nbttagcompound.getByte(VERSION_TAG);
+		if (version > COMPACT_VERSION)
+			throw new RuntimeException(String.format("Found genome of unknown format version %s for '%s'.", version, getSpeciesRoot().getUID()));
+
+		NBTTagList palette = nbttagcompound.getTagList(PALETTE_TAG, 8);
+		IAllele[] alleles = new IAllele[palette.tagCount()];
+		for (int i = 0; i < alleles.length; i++)
+			alleles[i] = AlleleManager.alleleRegistry.getAllele(palette.getStringTagAt(i));
+
+		byte[] genes = nbttagcompound.getByteArray(GENES_TAG);
+		for (int i = 0; i < chromosomes.length && i * 2 + 1 < genes.length; i++) {
+			int primary = genes[i * 2] & 0xff;
+			int secondary = genes[i * 2 + 1] & 0xff;
+			if (primary == NO_ALLELE)
+				continue;
+
+			setChromosome(i, new Chromosome(primary < alleles.length ? alleles[primary] : null, secondary < alleles.length ? alleles[secondary] : null));
+		}
+	}
+
+	private void setChromosome(int slot, Chromosome chromosome) {
+		chromosomes[slot] = chromosome;
+
+		if (Config.clearInvalidChromosomes)
+			chromosome.overrideInvalidAlleles(getDefaultTemplate()[slot], getSpeciesRoot().getKaryotype()[slot].getAlleleClass());
+
+		if (chromosome.hasInvalidAlleles(getSpeciesRoot().getKaryotype()[slot].getAlleleClass()))
+			throw new RuntimeException("Found Chromosome with invalid Alleles. See config option \"genetics.clear.invalid.chromosomes\".");
+	}
+
 	@Override
 	public void writeToNBT(NBTTagCompound nbttagcompound) {
 
+		if (Config.compactGenomes && writeCompact(nbttagcompound))
+			return;
+
 		NBTTagList nbttaglist = new NBTTagList();
 		for (int i = 0; i < chromosomes.length; i++)
 			if (chromosomes[i] != null) {
@@ -78,6 +139,54 @@ public abstract class Genome implements IGenome {
 
 	}
 
+	/**
+	 * @return false if the genome cannot be expressed in the compact format.
+	 */
+	private boolean writeCompact(NBTTagCompound nbttagcompound) {
+		Map<IAllele, Integer> indices = new IdentityHashMap<IAllele, Integer>();
+		List<IAllele> palette = new ArrayList<IAllele>();
+		byte[] genes = new byte[chromosomes.length * 2];
+
+		for (int i = 0; i < chromosomes.length; i++) {
+			if (chromosomes[i] == null) {
+				genes[i * 2] = genes[i * 2 + 1] = (byte) NO_ALLELE;
+				continue;
+			}
+
+			int primary = getPaletteIndex(chromosomes[i].getPrimaryAllele(), indices, palette);
+			int secondary = getPaletteIndex(chromosomes[i].getSecondaryAllele(), indices, palette);
+			if (primary < 0 || secondary < 0)
+				return false;
+
+			genes[i * 2] = (byte) primary;
+			genes[i * 2 + 1] = (byte) secondary;
+		}
+
+		NBTTagList paletteList = new NBTTagList();
+		for (IAllele allele : palette)
+			paletteList.appendTag(new NBTTagString(allele.getUID()));
+
+		nbttagcompound.setByte(VERSION_TAG, COMPACT_VERSION);
+		nbttagcompound.setTag(PALETTE_TAG, paletteList);
+		nbttagcompound.setByteArray(GENES_TAG, genes);
+		return true;
+	}
+
+	private static int getPaletteIndex(IAllele allele, Map<IAllele, Integer> indices, List<IAllele> palette) {
+		if (allele == null)
+			return -1;
+
+		Integer index = indices.get(allele);
+		if (index == null) {
+			if (palette.size() >= NO_ALLELE)
+				return -1;
+			index = palette.size();
+			indices.put(allele, index);
+			palette.add(allele);
+		}
+		return index;
+	}
+
 	// / INFORMATION RETRIEVAL
 	@Override
 	public IChromosome[] getChromosomes() {
@@ -94,8 +203,95 @@ public abstract class Genome implements IGenome {
 		return chromosomes[chromosome].getInactiveAllele();
 	}
 
+	/**
+	 * @return 64 bit hash over the allele UIDs of all chromosomes. Genetically equal genomes always have the same fingerprint.
+	 */
+	public long getFingerprint() {
+		if (fingerprint == 0)
+			fingerprint = computeFingerprint(chromosomes);
+		return fingerprint;
+	}
+
+	/**
+	 * @return Fingerprint of a genome saved to the given tag, in either format. Equal tags always have the same fingerprint, which is also the one
+	 *         of the genome read from them unless alleles had to be replaced.
+	 */
+	public static long getFingerprint(NBTTagCompound nbttagcompound) {
+		Long fingerprint = tagFingerprints.get(nbttagcompound);
+		if (fingerprint == null) {
+			fingerprint = computeFingerprint(nbttagcompound);
+			tagFingerprints.put(nbttagcompound, fingerprint);
+		}
+		return fingerprint;
+	}
+
+	private static long computeFingerprint(IChromosome[] chromosomes) {
+		// FNV-1a, stable across sessions unlike identity hashes.
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < chromosomes.length; i++)
+			if (chromosomes[i] != null)
+				hash = mix(hash, i, getUID(chromosomes[i].getPrimaryAllele()), getUID(chromosomes[i].getSecondaryAllele()));
+		// Zero marks an uncomputed fingerprint.
+		return hash != 0 ? hash : 1;
+	}
+
+	private static long computeFingerprint(NBTTagCompound nbttagcompound) {
+		long hash = 0xcbf29ce484222325L;
+
+		if (nbttagcompound.hasKey(PALETTE_TAG)) {
+			NBTTagList palette = nbttagcompound.getTagList(PALETTE_TAG, 8);
+			byte[] genes = nbttagcompound.getByteArray(GENES_TAG);
+			for (int i = 0; i * 2 + 1 < genes.length; i++) {
+				int primary = genes[i * 2] & 0xff;
+				int secondary = genes[i * 2 + 1] & 0xff;
+				if (primary == NO_ALLELE)
+					continue;
+				hash = mix(hash, i, primary < palette.tagCount() ? palette.getStringTagAt(primary) : null,
+						secondary < palette.tagCount() ? palette.getStringTagAt(secondary) : null);
+			}
+		} else {
+			NBTTagList nbttaglist = nbttagcompound.getTagList("Chromosomes", 10);
+			for (int i = 0; i < nbttaglist.tagCount(); i++) {
+				NBTTagCompound nbttagcompound1 = nbttaglist.getCompoundTagAt(i);
+				hash = mix(hash, nbttagcompound1.getByte(SLOT_TAG), nbttagcompound1.getString(Chromosome.UID0_TAG), nbttagcompound1.getString(Chromosome.UID1_TAG));
+			}
+		}
+
+		return hash != 0 ? hash : 1;
+	}
+
+	private static String getUID(IAllele allele) {
+		return allele != null ? allele.getUID() : null;
+	}
+
+	private static long mix(long hash, int slot, String primary, String secondary) {
+		hash = mix(hash, slot);
+		hash = mix(hash, primary);
+		return mix(hash, secondary);
+	}
+
+	private static long mix(long hash, String uid) {
+		if (uid == null)
+			return mix(hash, -1);
+
+		for (int i = 0; i < uid.length(); i++)
+			hash = mix(hash, uid.charAt(i));
+		return mix(hash, uid.length());
+	}
+
+	private static long mix(long hash, int value) {
+		hash ^= value;
+		return hash * 0x100000001b3L;
+	}
+
 	@Override
 	public boolean isGeneticEqual(IGenome other) {
+		if (other == this)
+			return true;
+		// Only worth it if both fingerprints are known already, computing them costs more than a single comparison.
+		if (other instanceof Genome && fingerprint != 0 && ((Genome) other).fingerprint != 0 && fingerprint != ((Genome) other).fingerprint)
+			return false;
+
 		IChromosome[] genetics = other.getChromosomes();
 		if (chromosomes.length != genetics.length)
 			return false;
@@ -109,12 +305,16 @@ public abstract class Genome implements IGenome {
 			if (chromosome == null && genetics[i] == null)
 				continue;
 
-			if (!chromosome.getPrimaryAllele().getUID().equals(genetics[i].getPrimaryAllele().getUID()))
+			if (!isSameAllele(chromosome.getPrimaryAllele(), genetics[i].getPrimaryAllele()))
 				return false;
-			if (!chromosome.getSecondaryAllele().getUID().equals(genetics[i].getSecondaryAllele().getUID()))
+			if (!isSameAllele(chromosome.getSecondaryAllele(), genetics[i].getSecondaryAllele()))
 				return false;
 		}
 
 		return true;
 	}
+
+	private static boolean isSameAllele(IAllele allele, IAllele other) {
+		return allele == other || allele.getUID().equals(other.getUID());
+	}
 }
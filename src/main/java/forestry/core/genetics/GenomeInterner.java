@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IChromosome;
+import forestry.api.genetics.IGenome;
+
+/**
+ * Resolves genetically identical genomes to a single shared instance.
+ *
+ * Genomes handed out by this class are shared between many holders (i.e. all
+ * leaves of a tree) and must be treated as immutable. Anything that needs a
+ * different genome has to create a new one instead of changing the chromosomes
+ * of a shared instance. Canonical instances are only weakly held and disappear
+ * once the last holder is gone.
+ */
+public class GenomeInterner {
+
+	private static final Map<GenomeKey, GenomeReference> genomes = new HashMap<GenomeKey, GenomeReference>();
+	private static final ReferenceQueue<IGenome> queue = new ReferenceQueue<IGenome>();
+
+	/**
+	 * @return The canonical instance for genomes genetically equal to the given one. Null if genome was null.
+	 */
+	public static synchronized <G extends IGenome> G intern(G genome) {
+		if (genome == null)
+			return null;
+
+		expungeStale();
+
+		GenomeKey key = new GenomeKey(genome);
+		GenomeReference ref = genomes.get(key);
+		if (ref != null) {
+			IGenome canonical = ref.get();
+			if (canonical != null) {
+				@SuppressWarnings("unchecked")
+				G cast = (G) canonical;
+				return cast;
+			}
+		}
+
+		genomes.put(key, new GenomeReference(key, genome, queue));
+		return genome;
+	}
+
+	private static void expungeStale() {
+		GenomeReference ref;
+		while ((ref = (GenomeReference) queue.poll()) != null)
+			if (genomes.get(ref.key) == ref)
+				genomes.remove(ref.key);
+	}
+
+	private static final class GenomeReference extends WeakReference<IGenome> {
+		private final GenomeKey key;
+
+		public GenomeReference(GenomeKey key, IGenome referent, ReferenceQueue<IGenome> queue) {
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+
+	/**
+	 * Alleles are registry singletons, so identity comparison suffices.
+	 */
+	private static final class GenomeKey {
+		private final Class<?> genomeClass;
+		private final IAllele[] alleles;
+		private final int hash;
+
+		public GenomeKey(IGenome genome) {
+			this.genomeClass = genome.getClass();
+
+			IChromosome[] chromosomes = genome.getChromosomes();
+			this.alleles = new IAllele[chromosomes.length * 2];
+			int result = genomeClass.hashCode();
+			for (int i = 0; i < chromosomes.length; i++) {
+				if (chromosomes[i] != null) {
+					alleles[i * 2] = chromosomes[i].getPrimaryAllele();
+					alleles[i * 2 + 1] = chromosomes[i].getSecondaryAllele();
+				}
+				result = 31 * result + System.identityHashCode(alleles[i * 2]);
+				result = 31 * result + System.identityHashCode(alleles[i * 2 + 1]);
+			}
+			this.hash = result;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof GenomeKey))
+				return false;
+
+			GenomeKey other = (GenomeKey) obj;
+			if (hash != other.hash || genomeClass != other.genomeClass || alleles.length != other.alleles.length)
+				return false;
+
+			for (int i = 0; i < alleles.length; i++)
+				if (alleles[i] != other.alleles[i])
+					return false;
+
+			return true;
+		}
+	}
+}
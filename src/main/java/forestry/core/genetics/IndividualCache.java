@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+import forestry.api.genetics.IIndividual;
+
+/**
+ * Holds the decoded individuals for the stacks of a single genetic item.
+ *
+ * Rendering and tooltips ask for the individual of the same stacks many times a
+ * frame. Entries are keyed by the identity of the stack's tag compound and only
+ * decoded again if the content hash of the tag changes. The hash is a deep walk
+ * over the tag, so it is rechecked at most once per {@link #REVALIDATE_INTERVAL}
+ * milliseconds for the same tag. Tags are weakly held, so entries disappear
+ * together with their stacks.
+ */
+public class IndividualCache {
+
+	private static final long REVALIDATE_INTERVAL = 50;
+
+	private final Map<Integer, Entry> entries = new HashMap<Integer, Entry>();
+	private final ReferenceQueue<NBTTagCompound> queue = new ReferenceQueue<NBTTagCompound>();
+
+	/**
+	 * @return The decoded individual for the given stack, or null if the stack has no tag compound.
+	 */
+	public synchronized IIndividual getIndividual(ItemGE item, ItemStack stack) {
+		NBTTagCompound tag = stack.getTagCompound();
+		if (tag == null)
+			return null;
+
+		expungeStale();
+
+		int identity = System.identityHashCode(tag);
+		long now = System.currentTimeMillis();
+
+		Entry first = entries.get(identity);
+		for (Entry entry = first; entry != null; entry = entry.next) {
+			if (entry.get() != tag)
+				continue;
+
+			long age = now - entry.validatedAt;
+			if (age >= 0 && age < REVALIDATE_INTERVAL)
+				return entry.individual;
+
+			entry.validatedAt = now;
+			int hash = tag.hashCode();
+			if (entry.hash == hash)
+				return entry.individual;
+
+			// Tag was changed in place.
+			entry.hash = hash;
+			entry.individual = item.getIndividual(stack);
+			return entry.individual;
+		}
+
+		Entry entry = new Entry(tag, identity, tag.hashCode(), now, item.getIndividual(stack), queue);
+		entry.next = first;
+		entries.put(identity, entry);
+		return entry.individual;
+	}
+
+	private void expungeStale() {
+		Entry stale;
+		while ((stale = (Entry) queue.poll()) != null) {
+			Entry first = entries.get(stale.identity);
+			if (first == stale) {
+				if (stale.next == null)
+					entries.remove(stale.identity);
+				else
+					entries.put(stale.identity, stale.next);
+				continue;
+			}
+
+			for (Entry entry = first; entry != null; entry = entry.next)
+				if (entry.next == stale) {
+					entry.next = stale.next;
+					break;
+				}
+		}
+	}
+
+	private static final class Entry extends WeakReference<NBTTagCompound> {
+		private final int identity;
+		private int hash;
+		private long validatedAt;
+		private IIndividual individual;
+		private Entry next;
+
+		public Entry(NBTTagCompound tag, int identity, int hash, long validatedAt, IIndividual individual, ReferenceQueue<NBTTagCompound> queue) {
+			super(tag, queue);
+			this.identity = identity;
+			this.hash = hash;
+			this.validatedAt = validatedAt;
+			this.individual = individual;
+		}
+	}
+}
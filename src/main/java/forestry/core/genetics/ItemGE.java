@@ -17,6 +17,7 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
+import cpw.mods.fml.common.FMLCommonHandler;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
@@ -27,6 +28,8 @@ import forestry.core.utils.StringUtil;
 
 public abstract class ItemGE extends Item {
 
+	private final IndividualCache individualCache = new IndividualCache();
+
 	protected ItemGE() {
 		super();
 		// maxStackSize = 1;
@@ -39,6 +42,15 @@ public abstract class ItemGE extends Item {
 
 	protected abstract IIndividual getIndividual(ItemStack itemstack);
 
+	/**
+	 * @return Shared decoded individual for display purposes. Must not be modified. Only cached on the client, the server decodes the stack.
+	 */
+	protected IIndividual getCachedIndividual(ItemStack itemstack) {
+		if (!FMLCommonHandler.instance().getEffectiveSide().isClient())
+			return getIndividual(itemstack);
+		return individualCache.getIndividual(this, itemstack);
+	}
+
 	@Override
 	public boolean isDamageable() {
 		return false;
@@ -59,7 +71,7 @@ public abstract class ItemGE extends Item {
 		if (!itemstack.hasTagCompound())
 			return false;
 
-		IIndividual individual = getIndividual(itemstack);
+		IIndividual individual = getCachedIndividual(itemstack);
 		return individual.hasEffect();
 	}
 
@@ -69,7 +81,7 @@ public abstract class ItemGE extends Item {
 		if(!itemstack.hasTagCompound())
 			return;
 
-		IIndividual individual = getIndividual(itemstack);
+		IIndividual individual = getCachedIndividual(itemstack);
 
 		if(individual.isAnalyzed()) {
 			if(Proxies.common.isShiftDown())
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IMutation;
+
+/**
+ * Lookup tables for the mutations of a species root.
+ *
+ * Mutations are indexed by the unordered pair of their parent alleles, by each
+ * parent allele and by their resulting species, so breeding and the analyzer
+ * only ever look at mutations which can actually apply.
+ */
+public class MutationIndex<M extends IMutation> {
+
+	private final Map<String, Map<String, List<M>>> byPair = new HashMap<String, Map<String, List<M>>>();
+	private final Map<String, List<M>> byPartner = new HashMap<String, List<M>>();
+	private final Map<String, List<M>> bySpecies = new HashMap<String, List<M>>();
+
+	public void register(M mutation) {
+		String uid0 = mutation.getAllele0().getUID();
+		String uid1 = mutation.getAllele1().getUID();
+
+		getOrCreate(getOrCreateMap(byPair, uid0), uid1).add(mutation);
+		if (!uid0.equals(uid1))
+			getOrCreate(getOrCreateMap(byPair, uid1), uid0).add(mutation);
+
+		getOrCreate(byPartner, uid0).add(mutation);
+		if (!uid0.equals(uid1))
+			getOrCreate(byPartner, uid1).add(mutation);
+
+		getOrCreate(bySpecies, mutation.getTemplate()[0].getUID()).add(mutation);
+	}
+
+	/**
+	 * @return Mutations which have the given alleles as parents, in random order.
+	 */
+	public List<M> getMutations(IAllele allele0, IAllele allele1, Random rand) {
+		Map<String, List<M>> partners = byPair.get(allele0.getUID());
+		if (partners == null)
+			return Collections.emptyList();
+
+		List<M> candidates = partners.get(allele1.getUID());
+		if (candidates == null)
+			return Collections.emptyList();
+		if (candidates.size() == 1)
+			return candidates;
+
+		List<M> shuffled = new ArrayList<M>(candidates);
+		Collections.shuffle(shuffled, rand);
+		return shuffled;
+	}
+
+	/**
+	 * @return Mutations which have the given allele as one of their parents.
+	 */
+	public Collection<M> getCombinations(IAllele other) {
+		List<M> combinations = byPartner.get(other.getUID());
+		if (combinations == null)
+			return Collections.emptyList();
+		return Collections.unmodifiableList(combinations);
+	}
+
+	/**
+	 * @return Mutations which result in the given species allele.
+	 */
+	public Collection<M> getPaths(IAllele species) {
+		List<M> paths = bySpecies.get(species.getUID());
+		if (paths == null)
+			return Collections.emptyList();
+		return Collections.unmodifiableList(paths);
+	}
+
+	private static <K, V> List<V> getOrCreate(Map<K, List<V>> map, K key) {
+		List<V> list = map.get(key);
+		if (list == null) {
+			list = new ArrayList<V>();
+			map.put(key, list);
+		}
+		return list;
+	}
+
+	private static <K, V> Map<String, V> getOrCreateMap(Map<K, Map<String, V>> map, K key) {
+		Map<String, V> inner = map.get(key);
+		if (inner == null) {
+			inner = new HashMap<String, V>();
+			map.put(key, inner);
+		}
+		return inner;
+	}
+}
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.block.Block;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.LongHashMap;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import forestry.api.genetics.IPollinatable;
+import forestry.core.utils.LongHashSet;
+import forestry.core.utils.WorldAccessAdapter;
+
+/**
+ * Positions of pollinatable tiles and ersatz blocks in a world, indexed per chunk section.
+ *
+ * Sections are scanned on first use and rescanned after a while in case a change went unnoticed. Block updates within a scanned section
+ * only re-check the changed position.
+ * Random pollination probes use this to reject empty positions without looking at the world.
+ */
+public class PollinatableIndex extends WorldAccessAdapter {
+
+	private static final int MAX_AGE = 1200;
+	private static final int MAX_SECTIONS = 4096;
+
+	private static final Map<World, PollinatableIndex> indices = new WeakHashMap<World, PollinatableIndex>();
+
+	public static void attach(World world) {
+		if (world.isRemote || indices.containsKey(world))
+			return;
+
+		PollinatableIndex index = new PollinatableIndex(world);
+		indices.put(world, index);
+		world.addWorldAccess(index);
+	}
+
+	public static void detach(World world) {
+		PollinatableIndex index = indices.remove(world);
+		if (index != null)
+			world.removeWorldAccess(index);
+	}
+
+	/**
+	 * @return Index of the given world, null if the world is not indexed.
+	 */
+	public static PollinatableIndex get(World world) {
+		return indices.get(world);
+	}
+
+	private static final class Section {
+		private final long builtAt;
+		private final LongHashSet positions = new LongHashSet();
+
+		public Section(long builtAt) {
+			this.builtAt = builtAt;
+		}
+	}
+
+	private final World world;
+	private LongHashMap sections = new LongHashMap();
+
+	private PollinatableIndex(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * @return false if there is certainly neither a pollinatable tile nor an ersatz block at the given position.
+	 */
+	public boolean isCandidate(int x, int y, int z) {
+		if (y < 0 || y >= world.getHeight())
+			return false;
+
+		Section section = getSection(x >> 4, y >> 4, z >> 4);
+		// Unloaded, let the caller decide.
+		if (section == null)
+			return true;
+
+		return section.positions.contains(LongHashSet.packCoords(x, y, z));
+	}
+
+	private Section getSection(int chunkX, int sectionY, int chunkZ) {
+		long key = LongHashSet.packCoords(chunkX, sectionY, chunkZ);
+		Section section = (Section) sections.getValueByKey(key);
+		long now = world.getTotalWorldTime();
+		if (section != null && now - section.builtAt < MAX_AGE && now >= section.builtAt)
+			return section;
+
+		if (!world.getChunkProvider().chunkExists(chunkX, chunkZ))
+			return null;
+
+		if (section != null)
+			sections.remove(key);
+		else if (sections.getNumHashElements() >= MAX_SECTIONS)
+			sections = new LongHashMap();
+
+		section = scanSection(world.getChunkFromChunkCoords(chunkX, chunkZ), sectionY, now);
+		sections.add(key, section);
+		return section;
+	}
+
+	private static Section scanSection(Chunk chunk, int sectionY, long now) {
+		Section section = new Section(now);
+
+		for (Object obj : chunk.chunkTileEntityMap.values()) {
+			TileEntity tile = (TileEntity) obj;
+			if (tile.yCoord >> 4 == sectionY && tile instanceof IPollinatable && !tile.isInvalid())
+				section.positions.add(LongHashSet.packCoords(tile.xCoord, tile.yCoord, tile.zCoord));
+		}
+
+		ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+		if (storage == null || storage.isEmpty())
+			return section;
+
+		int baseX = chunk.xPosition << 4;
+		int baseY = sectionY << 4;
+		int baseZ = chunk.zPosition << 4;
+		for (int y = 0; y < 16; y++)
+			for (int z = 0; z < 16; z++)
+				for (int x = 0; x < 16; x++) {
+					Block block = storage.getBlockByExtId(x, y, z);
+					if (!ErsatzIndex.hasSpecimens(block))
+						continue;
+					if (ErsatzIndex.getSpecimen(block, storage.getExtBlockMetadata(x, y, z)) != null)
+						section.positions.add(LongHashSet.packCoords(baseX + x, baseY + y, baseZ + z));
+				}
+
+		return section;
+	}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {
+		if (y < 0 || y >= world.getHeight())
+			return;
+
+		Section section = (Section) sections.getValueByKey(LongHashSet.packCoords(x >> 4, y >> 4, z >> 4));
+		if (section == null)
+			return;
+
+		long position = LongHashSet.packCoords(x, y, z);
+		if (isPollinatable(world, x, y, z))
+			section.positions.add(position);
+		else
+			section.positions.remove(position);
+	}
+
+	private static boolean isPollinatable(World world, int x, int y, int z) {
+		Block block = world.getBlock(x, y, z);
+		int meta = world.getBlockMetadata(x, y, z);
+		if (ErsatzIndex.hasSpecimens(block) && ErsatzIndex.getSpecimen(block, meta) != null)
+			return true;
+		if (!block.hasTileEntity(meta))
+			return false;
+
+		TileEntity tile = world.getTileEntity(x, y, z);
+		return tile instanceof IPollinatable && !tile.isInvalid();
+	}
+}
@@ -64,18 +64,22 @@ public abstract class SpeciesRoot implements ISpeciesRoot {
 	}
 
 	/* MUTATIONS */
+	/**
+	 * @return Index over all mutations registered with this root.
+	 */
+	protected abstract MutationIndex<? extends IMutation> getMutationIndex();
+
 	@Override
 	public Collection<? extends IMutation> getCombinations(IAllele other) {
-		ArrayList<IMutation> combinations = new ArrayList<IMutation>();
-		for (IMutation mutation : getMutations(false))
-			if (mutation.isPartner(other))
-				combinations.add(mutation);
-
-		return combinations;
+		return getMutationIndex().getCombinations(other);
 	}
 
 	@Override
 	public Collection<? extends IMutation> getPaths(IAllele result, int chromosomeOrdinal) {
+		// Species is by far the most common case and indexed.
+		if (chromosomeOrdinal == 0)
+			return getMutationIndex().getPaths(result);
+
 		ArrayList<IMutation> paths = new ArrayList<IMutation>();
 		for (IMutation mutation : getMutations(false))
 			if(mutation.getTemplate()[chromosomeOrdinal] == result)
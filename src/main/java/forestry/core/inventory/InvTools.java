@@ -47,6 +47,7 @@ import forestry.core.inventory.wrappers.InventoryMapper;
 import forestry.core.inventory.wrappers.SidedInventoryMapper;
 import forestry.core.inventory.wrappers.SpecialInventoryMapper;
 import forestry.core.utils.PlainInventory;
+import forestry.core.utils.StackUtils;
 
 public abstract class InvTools {
 
@@ -606,7 +607,7 @@ public abstract class InvTools {
 			return false;
 		if (a.getItem() != b.getItem())
 			return false;
-		if (matchNBT && !ItemStack.areItemStackTagsEqual(a, b))
+		if (matchNBT && !StackUtils.areItemStackTagsEqual(a, b))
 			return false;
 		if (matchDamage && a.getHasSubtypes()) {
 			if (isWildcard(a) || isWildcard(b))
@@ -12,32 +12,53 @@ package forestry.core.network;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.UUID;
 
 import com.mojang.authlib.GameProfile;
 
 import forestry.core.gadgets.TileForestry;
 
+/**
+ * Maps the {@link EntityNetData} fields of a class to the slots of a {@link PacketPayload}.
+ *
+ * Fields are discovered once per class and compiled into a flat array of typed members with access checks already disabled, so building a payload
+ * does not repeat any reflective lookups.
+ */
 public class ClassMap {
 
 	@SuppressWarnings("rawtypes")
-	public static HashMap<Class, ClassMap> classMappers = new HashMap<Class, ClassMap>();
+	private static final HashMap<Class, ClassMap> classMappers = new HashMap<Class, ClassMap>();
 
-	private final LinkedList<Field> intMember = new LinkedList<Field>();
-	private final LinkedList<Field> floatMember = new LinkedList<Field>();
-	private final LinkedList<Field> booleanMember = new LinkedList<Field>();
-	private final LinkedList<Field> stringMember = new LinkedList<Field>();
-	private final LinkedList<Field> enumMember = new LinkedList<Field>();
-	private final LinkedList<Field> gameProfileMember = new LinkedList<Field>();
-	private final LinkedList<ClassMap> objectMember = new LinkedList<ClassMap>();
+	/**
+	 * @return The map for the given class, created on first use.
+	 */
+	@SuppressWarnings("rawtypes")
+	public static synchronized ClassMap get(Class targetClass) {
+		ClassMap classmap = classMappers.get(targetClass);
+		if (classmap == null) {
+			classmap = new ClassMap(targetClass);
+			classMappers.put(targetClass, classmap);
+		}
+		return classmap;
+	}
+
+	private final Member[] members;
 
 	public int intSize;
 	public int floatSize;
 	public int stringSize;
 
-	private Field field;
+	/**
+	 * @return A new payload holding the current values of all networked fields of obj.
+	 */
+	public PacketPayload getPayload(Object obj) throws IllegalAccessException {
+		PacketPayload payload = new PacketPayload(intSize, floatSize, stringSize);
+		setData(obj, payload.intPayload, payload.floatPayload, payload.stringPayload, new IndexInPayload(0, 0, 0));
+		return payload;
+	}
 
 	/**
 	 * Writes the actual data to the packet payload
@@ -49,59 +70,9 @@ public class ClassMap {
 	 * @param stringPayload
 	 * @param index
 	 */
-	@SuppressWarnings("rawtypes")
 	public void setData(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
-		for (Field member : intMember) {
-			intPayload[index.intIndex] = member.getInt(obj);
-			index.intIndex++;
-		}
-		for (Field member : floatMember) {
-			floatPayload[index.floatIndex] = member.getFloat(obj);
-			index.floatIndex++;
-		}
-		for (Field member : booleanMember) {
-			if (member.getBoolean(obj))
-				floatPayload[index.intIndex] = 1;
-			else
-				floatPayload[index.intIndex] = 0;
-			index.intIndex++;
-		}
-		for (Field member : stringMember) {
-			stringPayload[index.stringIndex] = (String) member.get(obj);
-			index.stringIndex++;
-		}
-		for (Field member : enumMember) {
-			intPayload[index.intIndex] = ((Enum) member.get(obj)).ordinal();
-			index.intIndex++;
-		}
-		for (Field member : gameProfileMember) {
-			GameProfile profile = (GameProfile) member.get(obj);
-			intPayload[index.intIndex] = (int) (profile.getId().getMostSignificantBits() >>> 32);
-			intPayload[index.intIndex + 1] = (int) profile.getId().getMostSignificantBits();
-			intPayload[index.intIndex + 2] = (int) (profile.getId().getLeastSignificantBits() >>> 32);
-			intPayload[index.intIndex + 3] = (int) profile.getId().getLeastSignificantBits();
-			index.intIndex += 4;
-			stringPayload[index.stringIndex] = profile.getName();
-			index.stringIndex++;
-		}
-
-		// Handle subobjects
-		for (ClassMap submap : objectMember) {
-			Object source = submap.field.get(obj);
-
-			if (source == null) {
-				intPayload[index.intIndex] = 0;
-				index.intIndex++;
-
-				index.intIndex += submap.intSize;
-				index.floatIndex += submap.floatSize;
-				index.stringIndex += submap.stringSize;
-			} else {
-				intPayload[index.intIndex] = 1;
-				index.intIndex++;
-				submap.setData(source, intPayload, floatPayload, stringPayload, index);
-			}
-		}
+		for (Member member : members)
+			member.write(obj, intPayload, floatPayload, stringPayload, index);
 	}
 
 	/**
@@ -114,59 +85,21 @@ public class ClassMap {
 	 * @param index
 	 * @throws IllegalAccessException
 	 */
-	@SuppressWarnings("rawtypes")
 	public void fromData(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
-
-		for (Field member : intMember) {
-			member.setInt(obj, intPayload[index.intIndex]);
-			index.intIndex++;
-		}
-
-		for (Field member : booleanMember) {
-			member.setBoolean(obj, intPayload[index.intIndex] == 1);
-			index.intIndex++;
-		}
-
-		for (Field member : enumMember) {
-			member.set(obj, ((Class) member.getGenericType()).getEnumConstants()[intPayload[index.intIndex]]);
-			index.intIndex++;
-		}
-
-		for (Field member : floatMember) {
-			member.setFloat(obj, floatPayload[index.floatIndex]);
-			index.floatIndex++;
-		}
-		for (Field member : stringMember) {
-			member.set(obj, stringPayload[index.stringIndex]);
-			index.stringIndex++;
-		}
-		for (Field member : gameProfileMember) {
-			GameProfile profile = new GameProfile(new UUID((long) intPayload[index.intIndex] << 32 | intPayload[index.intIndex + 1],
-					(long) intPayload[index.intIndex + 2] << 32 | intPayload[index.intIndex + 3]),
-					stringPayload[index.stringIndex]);
-			index.intIndex += 4;
-			index.stringIndex++;
-
-			member.set(obj, profile);
-		}
-
-		for (ClassMap map : objectMember) {
-			boolean isNull = intPayload[index.intIndex] == 0;
-			index.intIndex++;
-
-			if (isNull) {
-				index.intIndex += map.intSize;
-				index.floatIndex += map.floatSize;
-				index.stringIndex += map.stringSize;
-			} else {
-				map.field.get(obj);
-				map.fromData(map.field.get(obj), intPayload, floatPayload, stringPayload, index);
-			}
-		}
+		for (Member member : members)
+			member.read(obj, intPayload, floatPayload, stringPayload, index);
 	}
 
 	@SuppressWarnings("rawtypes")
-	public ClassMap(final Class targetClass) {
+	private ClassMap(final Class targetClass) {
+		List<Member> intMembers = new ArrayList<Member>();
+		List<Member> floatMembers = new ArrayList<Member>();
+		List<Member> booleanMembers = new ArrayList<Member>();
+		List<Member> stringMembers = new ArrayList<Member>();
+		List<Member> enumMembers = new ArrayList<Member>();
+		List<Member> gameProfileMembers = new ArrayList<Member>();
+		List<Member> objectMembers = new ArrayList<Member>();
+
 		Field[] fields = targetClass.getFields();
 
 		try {
@@ -181,31 +114,29 @@ public class ClassMap {
 					Class memberClass = (Class) type;
 					if (memberClass.equals(int.class)) {
 						intSize++;
-						intMember.add(field);
+						intMembers.add(new IntMember(field));
 					} else if (memberClass.equals(float.class)) {
 						floatSize++;
-						floatMember.add(field);
+						floatMembers.add(new FloatMember(field));
 					} else if (memberClass.equals(boolean.class)) {
 						intSize++;
-						booleanMember.add(field);
+						booleanMembers.add(new BooleanMember(field));
 					} else if (memberClass.equals(String.class)) {
 						stringSize++;
-						stringMember.add(field);
+						stringMembers.add(new StringMember(field));
 					} else if (Enum.class.isAssignableFrom(memberClass)) {
 						intSize++;
-						enumMember.add(field);
+						enumMembers.add(new EnumMember(field, memberClass));
 					} else if (GameProfile.class.isAssignableFrom(memberClass)) {
 						intSize += 4;
 						stringSize++;
-						gameProfileMember.add(field);
+						gameProfileMembers.add(new GameProfileMember(field));
 					} else {
 						// If we are none of the above we assume to be another
 						// mapable object
 						// Might not be true and fail!
 						ClassMap mapper = new ClassMap(memberClass);
-						mapper.field = field;
-
-						objectMember.add(mapper);
+						objectMembers.add(new ObjectMember(field, mapper));
 						intSize++;
 
 						intSize += mapper.intSize;
@@ -219,10 +150,191 @@ public class ClassMap {
 		} catch (IllegalArgumentException e) {
 			e.printStackTrace();
 		}
+
+		List<Member> ordered = new ArrayList<Member>();
+		ordered.addAll(intMembers);
+		ordered.addAll(floatMembers);
+		ordered.addAll(booleanMembers);
+		ordered.addAll(stringMembers);
+		ordered.addAll(enumMembers);
+		ordered.addAll(gameProfileMembers);
+		ordered.addAll(objectMembers);
+		members = ordered.toArray(new Member[ordered.size()]);
 	}
 
 	private boolean isNetworkedMember(Field member) {
 		return member.getAnnotation(EntityNetData.class) != null;
 	}
 
+	/* MEMBERS */
+	private static abstract class Member {
+		protected final Field field;
+
+		public Member(Field field) {
+			this.field = field;
+			try {
+				field.setAccessible(true);
+			} catch (SecurityException ex) {
+				// Public fields remain readable with access checks.
+			}
+		}
+
+		public abstract void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException;
+
+		public abstract void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException;
+	}
+
+	private static class IntMember extends Member {
+		public IntMember(Field field) {
+			super(field);
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			intPayload[index.intIndex++] = field.getInt(obj);
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			field.setInt(obj, intPayload[index.intIndex++]);
+		}
+	}
+
+	private static class FloatMember extends Member {
+		public FloatMember(Field field) {
+			super(field);
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			floatPayload[index.floatIndex++] = field.getFloat(obj);
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			field.setFloat(obj, floatPayload[index.floatIndex++]);
+		}
+	}
+
+	private static class BooleanMember extends Member {
+		public BooleanMember(Field field) {
+			super(field);
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			intPayload[index.intIndex++] = field.getBoolean(obj) ? 1 : 0;
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			field.setBoolean(obj, intPayload[index.intIndex++] == 1);
+		}
+	}
+
+	private static class StringMember extends Member {
+		public StringMember(Field field) {
+			super(field);
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			stringPayload[index.stringIndex++] = (String) field.get(obj);
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			field.set(obj, stringPayload[index.stringIndex++]);
+		}
+	}
+
+	private static class EnumMember extends Member {
+		private final Object[] constants;
+
+		@SuppressWarnings("rawtypes")
+		public EnumMember(Field field, Class enumClass) {
+			super(field);
+			this.constants = enumClass.getEnumConstants();
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			intPayload[index.intIndex++] = ((Enum<?>) field.get(obj)).ordinal();
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			field.set(obj, constants[intPayload[index.intIndex++]]);
+		}
+	}
+
+	private static class GameProfileMember extends Member {
+		public GameProfileMember(Field field) {
+			super(field);
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			GameProfile profile = (GameProfile) field.get(obj);
+			intPayload[index.intIndex] = (int) (profile.getId().getMostSignificantBits() >>> 32);
+			intPayload[index.intIndex + 1] = (int) profile.getId().getMostSignificantBits();
+			intPayload[index.intIndex + 2] = (int) (profile.getId().getLeastSignificantBits() >>> 32);
+			intPayload[index.intIndex + 3] = (int) profile.getId().getLeastSignificantBits();
+			index.intIndex += 4;
+			stringPayload[index.stringIndex] = profile.getName();
+			index.stringIndex++;
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			GameProfile profile = new GameProfile(new UUID((long) intPayload[index.intIndex] << 32 | intPayload[index.intIndex + 1] & 0xffffffffL,
+					(long) intPayload[index.intIndex + 2] << 32 | intPayload[index.intIndex + 3] & 0xffffffffL),
+					stringPayload[index.stringIndex]);
+			index.intIndex += 4;
+			index.stringIndex++;
+
+			field.set(obj, profile);
+		}
+	}
+
+	private static class ObjectMember extends Member {
+		private final ClassMap map;
+
+		public ObjectMember(Field field, ClassMap map) {
+			super(field);
+			this.map = map;
+		}
+
+		@Override
+		public void write(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			Object source = field.get(obj);
+
+			if (source == null) {
+				intPayload[index.intIndex] = 0;
+				index.intIndex++;
+
+				index.intIndex += map.intSize;
+				index.floatIndex += map.floatSize;
+				index.stringIndex += map.stringSize;
+			} else {
+				intPayload[index.intIndex] = 1;
+				index.intIndex++;
+				map.setData(source, intPayload, floatPayload, stringPayload, index);
+			}
+		}
+
+		@Override
+		public void read(Object obj, int[] intPayload, float[] floatPayload, String[] stringPayload, IndexInPayload index) throws IllegalAccessException {
+			boolean isNull = intPayload[index.intIndex] == 0;
+			index.intIndex++;
+
+			Object target = field.get(obj);
+			if (isNull || target == null) {
+				index.intIndex += map.intSize;
+				index.floatIndex += map.floatSize;
+				index.stringIndex += map.stringSize;
+			} else
+				map.fromData(target, intPayload, floatPayload, stringPayload, index);
+		}
+	}
 }
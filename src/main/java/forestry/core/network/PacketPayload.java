@@ -66,4 +66,116 @@ public class PacketPayload {
 	public boolean isEmpty() {
 		return intPayload.length == 0 && shortPayload.length == 0 && floatPayload.length == 0 && stringPayload.length == 0;
 	}
+
+	/* DELTAS */
+	private int getSlotCount() {
+		return intPayload.length + shortPayload.length + floatPayload.length + stringPayload.length;
+	}
+
+	private boolean hasSameLayout(PacketPayload other) {
+		return intPayload.length == other.intPayload.length && shortPayload.length == other.shortPayload.length
+				&& floatPayload.length == other.floatPayload.length && stringPayload.length == other.stringPayload.length;
+	}
+
+	/**
+	 * Slots are numbered across the int, short, float and string arrays in that order.
+	 *
+	 * @return Bit mask of the slots which differ from previous, or null if previous is null or laid out differently.
+	 */
+	public int[] getChangedMask(PacketPayload previous) {
+		if (previous == null || !hasSameLayout(previous))
+			return null;
+
+		int[] mask = new int[(getSlotCount() + 31) >> 5];
+		int slot = 0;
+		for (int i = 0; i < intPayload.length; i++, slot++)
+			if (intPayload[i] != previous.intPayload[i])
+				mask[slot >> 5] |= 1 << slot;
+		for (int i = 0; i < shortPayload.length; i++, slot++)
+			if (shortPayload[i] != previous.shortPayload[i])
+				mask[slot >> 5] |= 1 << slot;
+		for (int i = 0; i < floatPayload.length; i++, slot++)
+			if (Float.floatToIntBits(floatPayload[i]) != Float.floatToIntBits(previous.floatPayload[i]))
+				mask[slot >> 5] |= 1 << slot;
+		for (int i = 0; i < stringPayload.length; i++, slot++) {
+			String current = stringPayload[i];
+			if (current == null ? previous.stringPayload[i] != null : !current.equals(previous.stringPayload[i]))
+				mask[slot >> 5] |= 1 << slot;
+		}
+		return mask;
+	}
+
+	/**
+	 * @return A compact payload containing only the slots set in mask.
+	 */
+	public PacketPayload extract(int[] mask) {
+		int slot = 0;
+		int ints = 0, shorts = 0, floats = 0, strings = 0;
+		for (int i = 0; i < intPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				ints++;
+		for (int i = 0; i < shortPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				shorts++;
+		for (int i = 0; i < floatPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				floats++;
+		for (int i = 0; i < stringPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				strings++;
+
+		PacketPayload changed = new PacketPayload(ints, floats, strings);
+		changed.shortPayload = new short[shorts];
+
+		slot = 0;
+		ints = shorts = floats = strings = 0;
+		for (int i = 0; i < intPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				changed.intPayload[ints++] = intPayload[i];
+		for (int i = 0; i < shortPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				changed.shortPayload[shorts++] = shortPayload[i];
+		for (int i = 0; i < floatPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				changed.floatPayload[floats++] = floatPayload[i];
+		for (int i = 0; i < stringPayload.length; i++, slot++)
+			if (isSet(mask, slot))
+				changed.stringPayload[strings++] = stringPayload[i];
+
+		return changed;
+	}
+
+	/**
+	 * Copies the slots of a payload created by {@link #extract(int[])} back into this one.
+	 *
+	 * @return false if the changed payload does not fit this one.
+	 */
+	public boolean merge(PacketPayload changed, int[] mask) {
+		if ((getSlotCount() + 31) >> 5 != mask.length)
+			return false;
+
+		int slot = 0;
+		int ints = 0, shorts = 0, floats = 0, strings = 0;
+		try {
+			for (int i = 0; i < intPayload.length; i++, slot++)
+				if (isSet(mask, slot))
+					intPayload[i] = changed.intPayload[ints++];
+			for (int i = 0; i < shortPayload.length; i++, slot++)
+				if (isSet(mask, slot))
+					shortPayload[i] = changed.shortPayload[shorts++];
+			for (int i = 0; i < floatPayload.length; i++, slot++)
+				if (isSet(mask, slot))
+					floatPayload[i] = changed.floatPayload[floats++];
+			for (int i = 0; i < stringPayload.length; i++, slot++)
+				if (isSet(mask, slot))
+					stringPayload[i] = changed.stringPayload[strings++];
+		} catch (ArrayIndexOutOfBoundsException ex) {
+			return false;
+		}
+		return true;
+	}
+
+	private static boolean isSet(int[] mask, int slot) {
+		return (mask[slot >> 5] & 1 << slot) != 0;
+	}
 }
@@ -32,11 +32,21 @@ public class PacketTileUpdate extends PacketUpdate {
 	private EnumAccess access = EnumAccess.SHARED;
 	private GameProfile owner = null;
 
+	private int[] changedMask = null;
+
 	public PacketTileUpdate() {
 	}
 
 	public PacketTileUpdate(TileForestry tile) {
-		super(PacketIds.TILE_FORESTRY_UPDATE, tile.getPacketPayload());
+		this(tile, tile.getPacketPayload(), null);
+	}
+
+	/**
+	 * @param changedMask
+	 *            Slots of the full payload contained in the given one, see {@link PacketPayload#getChangedMask(PacketPayload)}. Null if payload is complete.
+	 */
+	public PacketTileUpdate(TileForestry tile, PacketPayload payload, int[] changedMask) {
+		super(PacketIds.TILE_FORESTRY_UPDATE, payload);
 
 		posX = tile.xCoord;
 		posY = tile.yCoord;
@@ -48,6 +58,8 @@ public class PacketTileUpdate extends PacketUpdate {
 		isOwnable = tile.isOwnable();
 		access = tile.getAccess();
 		owner = tile.owner;
+
+		this.changedMask = changedMask;
 	}
 
 	@Override
@@ -73,6 +85,14 @@ public class PacketTileUpdate extends PacketUpdate {
 		} else
 			data.writeInt(-1);
 
+		if (changedMask == null) {
+			data.writeShort(-1);
+		} else {
+			data.writeShort(changedMask.length);
+			for (int bits : changedMask)
+				data.writeInt(bits);
+		}
+
 		super.writeData(data);
 	}
 
@@ -98,6 +118,14 @@ public class PacketTileUpdate extends PacketUpdate {
 			}
 		}
 
+		int maskLength = data.readShort();
+		if (maskLength >= 0) {
+			changedMask = new int[maskLength];
+			for (int i = 0; i < maskLength; i++)
+				changedMask[i] = data.readInt();
+		} else
+			changedMask = null;
+
 		super.readData(data);
 	}
 
@@ -116,4 +144,11 @@ public class PacketTileUpdate extends PacketUpdate {
 	public GameProfile getOwner() {
 		return this.owner;
 	}
+
+	/**
+	 * @return Mask of the slots carried by the payload, null if the payload is complete.
+	 */
+	public int[] getChangedMask() {
+		return this.changedMask;
+	}
 }
@@ -171,7 +171,7 @@ public class ProxyCommon {
 	}
 
 	public void playSoundFX(World world, int x, int y, int z, Block block) {
-		Proxies.net.sendNetworkPacket(new PacketFXSignal(PacketFXSignal.SoundFXType.LEAF, x, y, z, block, 0), x, y, z);
+		Proxies.net.sendNetworkPacket(new PacketFXSignal(PacketFXSignal.SoundFXType.LEAF, x, y, z, block, 0), world, x, y, z);
 	}
 
 	public void playSoundFX(World world, int x, int y, int z, String sound, float volume, float pitch) {
@@ -207,7 +207,7 @@ public class ProxyCommon {
 	public void sendFXSignal(PacketFXSignal.VisualFXType visualFX, PacketFXSignal.SoundFXType soundFX, World world, int xCoord, int yCoord, int zCoord,
 			Block block, int i) {
 		if (Proxies.common.isSimulating(world))
-			Proxies.net.sendNetworkPacket(new PacketFXSignal(visualFX, soundFX, xCoord, yCoord, zCoord, block, i), xCoord, yCoord, zCoord);
+			Proxies.net.sendNetworkPacket(new PacketFXSignal(visualFX, soundFX, xCoord, yCoord, zCoord, block, i), world, xCoord, yCoord, zCoord);
 	}
 
 	public IResourceManager getSelectedTexturePack(Minecraft minecraft) {
@@ -12,29 +12,41 @@ package forestry.core.proxy;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.management.PlayerManager;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 
-import net.minecraftforge.common.DimensionManager;
+import cpw.mods.fml.common.network.internal.FMLProxyPacket;
 
 import forestry.Forestry;
-import forestry.core.config.Defaults;
 import forestry.core.network.ForestryPacket;
 
 public class ProxyNetwork {
 
-	public void sendNetworkPacket(ForestryPacket packet, int x, int y, int z) {
+	/**
+	 * Sends the packet to every player in the given world who has the chunk containing x, z loaded.
+	 * The packet is serialized once and the resulting payload is shared between all recipients.
+	 */
+	public void sendNetworkPacket(ForestryPacket packet, World world, int x, int y, int z) {
 		if (packet == null)
 			return;
+		if (!(world instanceof WorldServer))
+			return;
+
+		PlayerManager playerManager = ((WorldServer) world).getPlayerManager();
+		int chunkX = x >> 4;
+		int chunkZ = z >> 4;
 
-		World[] worlds = DimensionManager.getWorlds();
-		for (int i = 0; i < worlds.length; i++)
-			for (int j = 0; j < worlds[i].playerEntities.size(); j++) {
-				EntityPlayerMP player = (EntityPlayerMP) worlds[i].playerEntities.get(j);
+		FMLProxyPacket serialized = null;
+		for (int i = 0; i < world.playerEntities.size(); i++) {
+			EntityPlayerMP player = (EntityPlayerMP) world.playerEntities.get(i);
+			if (!playerManager.isPlayerWatchingChunk(player, chunkX, chunkZ))
+				continue;
 
-				if (Math.abs(player.posX - x) <= Defaults.NET_MAX_UPDATE_DISTANCE && Math.abs(player.posY - y) <= Defaults.NET_MAX_UPDATE_DISTANCE
-						&& Math.abs(player.posZ - z) <= Defaults.NET_MAX_UPDATE_DISTANCE)
-					Forestry.packetHandler.sendPacket(packet.getPacket(), player);
-			}
+			if (serialized == null)
+				serialized = packet.getPacket();
+			Forestry.packetHandler.sendPacket(serialized, player);
+		}
 	}
 
 	public void sendToPlayer(ForestryPacket packet, EntityPlayer entityplayer) {
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.World;
+
+/**
+ * Listens to block changes in a world and passes them on to the listeners
+ * watching an area containing the changed block.
+ *
+ * Listeners are only weakly held, so anything forgetting to unwatch is still
+ * dropped once it is no longer used.
+ */
+public class BlockChangeWatcher extends WorldAccessAdapter {
+
+	public interface IBlockChangeListener {
+		void onBlockChange(int x, int y, int z);
+	}
+
+	private static final class Area {
+		private final WeakReference<IBlockChangeListener> listener;
+		private final int minX, minY, minZ, maxX, maxY, maxZ;
+
+		public Area(IBlockChangeListener listener, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+			this.listener = new WeakReference<IBlockChangeListener>(listener);
+			this.minX = minX;
+			this.minY = minY;
+			this.minZ = minZ;
+			this.maxX = maxX;
+			this.maxY = maxY;
+			this.maxZ = maxZ;
+		}
+
+		public boolean contains(int x, int y, int z) {
+			return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+		}
+	}
+
+	private static final Map<World, BlockChangeWatcher> watchers = new WeakHashMap<World, BlockChangeWatcher>();
+
+	private final Map<Long, List<Area>> areasByChunk = new HashMap<Long, List<Area>>();
+	private final Map<IBlockChangeListener, Area> areas = new WeakHashMap<IBlockChangeListener, Area>();
+
+	public static void attach(World world) {
+		if (world.isRemote || watchers.containsKey(world))
+			return;
+
+		BlockChangeWatcher watcher = new BlockChangeWatcher();
+		watchers.put(world, watcher);
+		world.addWorldAccess(watcher);
+	}
+
+	public static void detach(World world) {
+		BlockChangeWatcher watcher = watchers.remove(world);
+		if (watcher != null)
+			world.removeWorldAccess(watcher);
+	}
+
+	/**
+	 * @return Watcher of the given world, null if the world is not watched.
+	 */
+	public static BlockChangeWatcher get(World world) {
+		return watchers.get(world);
+	}
+
+	/**
+	 * Notifies the listener of changes within the given bounds, replacing any area it watched before.
+	 */
+	public void watch(IBlockChangeListener listener, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+		unwatch(listener);
+
+		Area area = new Area(listener, minX, minY, minZ, maxX, maxY, maxZ);
+		areas.put(listener, area);
+
+		for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+			for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+				Long key = getChunkKey(chunkX, chunkZ);
+				List<Area> chunkAreas = areasByChunk.get(key);
+				if (chunkAreas == null) {
+					chunkAreas = new ArrayList<Area>();
+					areasByChunk.put(key, chunkAreas);
+				}
+				chunkAreas.add(area);
+			}
+	}
+
+	public void unwatch(IBlockChangeListener listener) {
+		Area area = areas.remove(listener);
+		if (area == null)
+			return;
+
+		for (int chunkX = area.minX >> 4; chunkX <= area.maxX >> 4; chunkX++)
+			for (int chunkZ = area.minZ >> 4; chunkZ <= area.maxZ >> 4; chunkZ++) {
+				Long key = getChunkKey(chunkX, chunkZ);
+				List<Area> chunkAreas = areasByChunk.get(key);
+				if (chunkAreas == null)
+					continue;
+
+				chunkAreas.remove(area);
+				if (chunkAreas.isEmpty())
+					areasByChunk.remove(key);
+			}
+	}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {
+		Long key = getChunkKey(x >> 4, z >> 4);
+		List<Area> chunkAreas = areasByChunk.get(key);
+		if (chunkAreas == null)
+			return;
+
+		for (Iterator<Area> it = chunkAreas.iterator(); it.hasNext();) {
+			Area area = it.next();
+			IBlockChangeListener listener = area.listener.get();
+			if (listener == null)
+				it.remove();
+			else if (area.contains(x, y, z))
+				listener.onBlockChange(x, y, z);
+		}
+
+		if (chunkAreas.isEmpty())
+			areasByChunk.remove(key);
+	}
+
+	private static Long getChunkKey(int chunkX, int chunkZ) {
+		return ((long) chunkX << 32) | (chunkZ & 0xffffffffL);
+	}
+}
@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.LongHashMap;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+/**
+ * Entities of a world, collected once per tick by chunk and class.
+ *
+ * Bee housings standing next to each other query largely the same chunks for the same entity classes. Each chunk is only scanned on the first
+ * query of a tick, later queries filter the collected lists by their own bounding box.
+ */
+public class EntitySnapshot {
+
+	private static final Map<World, EntitySnapshot> snapshots = new WeakHashMap<World, EntitySnapshot>();
+
+	public static synchronized EntitySnapshot get(World world) {
+		EntitySnapshot snapshot = snapshots.get(world);
+		if (snapshot == null) {
+			snapshot = new EntitySnapshot(world);
+			snapshots.put(world, snapshot);
+		}
+		snapshot.validate();
+		return snapshot;
+	}
+
+	/**
+	 * Drops the snapshot of an unloading world. Collected entities reference their world, so the entry would otherwise keep it alive.
+	 */
+	public static synchronized void detach(World world) {
+		snapshots.remove(world);
+	}
+
+	private final World world;
+	private final Map<Class<?>, LongHashMap> chunkLists = new HashMap<Class<?>, LongHashMap>();
+	private long tick = Long.MIN_VALUE;
+
+	private EntitySnapshot(World world) {
+		this.world = world;
+	}
+
+	private void validate() {
+		long currentTick = world.getTotalWorldTime();
+		if (currentTick != tick) {
+			tick = currentTick;
+			chunkLists.clear();
+		}
+	}
+
+	/**
+	 * Same result as {@link World#getEntitiesWithinAABB(Class, AxisAlignedBB)}, minus entities which died earlier in this tick.
+	 */
+	public synchronized <T extends Entity> List<T> getEntities(Class<T> entityClass, AxisAlignedBB box) {
+		List<T> found = null;
+
+		int minX = MathHelper.floor_double((box.minX - 2.0D) / 16.0D);
+		int maxX = MathHelper.floor_double((box.maxX + 2.0D) / 16.0D);
+		int minZ = MathHelper.floor_double((box.minZ - 2.0D) / 16.0D);
+		int maxZ = MathHelper.floor_double((box.maxZ + 2.0D) / 16.0D);
+
+		for (int chunkX = minX; chunkX <= maxX; chunkX++)
+			for (int chunkZ = minZ; chunkZ <= maxZ; chunkZ++) {
+				List<T> entities = getChunkEntities(entityClass, chunkX, chunkZ);
+				for (T entity : entities) {
+					if (entity.isDead || !entity.boundingBox.intersectsWith(box))
+						continue;
+					if (found == null)
+						found = new ArrayList<T>();
+					found.add(entity);
+				}
+			}
+
+		if (found == null)
+			return Collections.emptyList();
+		return found;
+	}
+
+	/**
+	 * @return true if at least one entity of the given class is within the box.
+	 */
+	public boolean hasEntities(Class<? extends Entity> entityClass, AxisAlignedBB box) {
+		return !getEntities(entityClass, box).isEmpty();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T extends Entity> List<T> getChunkEntities(Class<T> entityClass, int chunkX, int chunkZ) {
+		LongHashMap byChunk = chunkLists.get(entityClass);
+		if (byChunk == null) {
+			byChunk = new LongHashMap();
+			chunkLists.put(entityClass, byChunk);
+		}
+
+		long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+		List<T> entities = (List<T>) byChunk.getValueByKey(key);
+		if (entities != null)
+			return entities;
+
+		entities = Collections.emptyList();
+		if (world.getChunkProvider().chunkExists(chunkX, chunkZ)) {
+			Chunk chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+			for (List<?> section : chunk.entityLists)
+				for (Object obj : section) {
+					if (!entityClass.isInstance(obj))
+						continue;
+					if (entities.isEmpty())
+						entities = new ArrayList<T>();
+					entities.add((T) obj);
+				}
+		}
+
+		byChunk.add(key, entities);
+		return entities;
+	}
+}
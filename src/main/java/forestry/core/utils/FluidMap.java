@@ -28,6 +28,22 @@ public class FluidMap<T> extends StackMap<Fluid, T> {
 		return false;
 	}
 
+	@Override
+	protected Object getIndexKey(Object match) {
+		if(match instanceof FluidStack)
+			return ((FluidStack) match).getFluid().getName();
+		if(match instanceof Fluid)
+			return ((Fluid) match).getName();
+		if(match instanceof String)
+			return match;
+		return null;
+	}
+
+	@Override
+	protected Object getLookupKey(Fluid stack) {
+		return stack.getName();
+	}
+
 	@Override
 	protected boolean isValidKey(Object key) {
 		return key instanceof FluidStack || key instanceof Fluid || key instanceof String;
@@ -10,6 +10,8 @@
  ******************************************************************************/
 package forestry.core.utils;
 
+import java.lang.ref.WeakReference;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map.Entry;
@@ -18,26 +20,34 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldSavedData;
+import net.minecraft.world.storage.MapStorage;
 
+/**
+ * Hands out small integer ids for string uids and saves the mapping with the world,
+ * so ids stay the same across restarts.
+ */
 public class IDAllocator extends WorldSavedData {
 
 	public static String SAVE_NAME = "IDAlloc";
 
 	public static IDAllocator cachedIDAllocator;
+	private static WeakReference<MapStorage> cachedStorage;
 
 	private final int maxId = 2048;
 
 	public static IDAllocator getIDAllocator(World world, String type) {
-		if (cachedIDAllocator != null)
+		String name = SAVE_NAME + "." + type;
+		if (cachedIDAllocator != null && cachedIDAllocator.mapName.equals(name) && cachedStorage != null && cachedStorage.get() == world.mapStorage)
 			return cachedIDAllocator;
 
-		IDAllocator allocator = (IDAllocator) world.loadItemData(IDAllocator.class, SAVE_NAME + "." + type);
+		IDAllocator allocator = (IDAllocator) world.loadItemData(IDAllocator.class, name);
 		if (allocator == null) {
-			allocator = new IDAllocator(SAVE_NAME + "." + type);
-			world.setItemData(SAVE_NAME + type, allocator);
+			allocator = new IDAllocator(name);
+			world.setItemData(name, allocator);
 		}
 
 		cachedIDAllocator = allocator;
+		cachedStorage = new WeakReference<MapStorage>(world.mapStorage);
 		return allocator;
 	}
 
@@ -47,18 +57,24 @@ public class IDAllocator extends WorldSavedData {
 
 	public HashMap<String, Integer> idMap = new HashMap<String, Integer>();
 
-	public int getId(String uid) {
-		if (idMap.containsKey(uid))
-			return idMap.get(uid);
-
-		for (int i = 0; i < maxId; i++)
-			if (!idMap.containsValue(i)) {
-				idMap.put(uid, i);
-				this.markDirty();
-				return i;
-			}
+	private final BitSet usedIds = new BitSet(maxId);
+	// Ids are never released, so everything below this is taken.
+	private int nextFree;
 
-		throw new RuntimeException("No ids left for the type: " + uid);
+	public int getId(String uid) {
+		Integer id = idMap.get(uid);
+		if (id != null)
+			return id;
+
+		int free = usedIds.nextClearBit(nextFree);
+		if (free >= maxId)
+			throw new RuntimeException("No ids left for the type: " + uid);
+
+		usedIds.set(free);
+		nextFree = free + 1;
+		idMap.put(uid, free);
+		this.markDirty();
+		return free;
 	}
 
 	@Override
@@ -67,8 +83,12 @@ public class IDAllocator extends WorldSavedData {
 		NBTTagList nbttaglist = nbttagcompound.getTagList("IdMap", 10);
 		for (int i = 0; i < nbttaglist.tagCount(); i++) {
 			NBTTagCompound subcompound = nbttaglist.getCompoundTagAt(i);
-			idMap.put(subcompound.getString("UID"), subcompound.getInteger("Id"));
+			int id = subcompound.getInteger("Id");
+			idMap.put(subcompound.getString("UID"), id);
+			if (id >= 0)
+				usedIds.set(id);
 		}
+		nextFree = 0;
 
 	}
 
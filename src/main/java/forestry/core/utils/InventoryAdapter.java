@@ -141,7 +141,7 @@ public class InventoryAdapter implements IInventory, INBTTagable {
 			// Already occupied by different item, skip this slot.
 			if (!inventory.getStackInSlot(i).isItemEqual(stack))
 				continue;
-			if (!ItemStack.areItemStackTagsEqual(inventory.getStackInSlot(i), stack))
+			if (!StackUtils.areItemStackTagsEqual(inventory.getStackInSlot(i), stack))
 				continue;
 
 			int remain = stack.stackSize - added;
@@ -204,7 +204,7 @@ public class InventoryAdapter implements IInventory, INBTTagable {
 					continue;
 				}
 
-				if (stack.isItemEqual(queried) && ItemStack.areItemStackTagsEqual(stack, queried))
+				if (stack.isItemEqual(queried) && StackUtils.areItemStackTagsEqual(stack, queried))
 					itemCount += stack.stackSize;
 			}
 
@@ -235,7 +235,7 @@ public class InventoryAdapter implements IInventory, INBTTagable {
 						remain.stackSize -= removed.stackSize;
 					}
 
-				} else if (stack.isItemEqual(remain) && ItemStack.areItemStackTagsEqual(stack, remain)) {
+				} else if (stack.isItemEqual(remain) && StackUtils.areItemStackTagsEqual(stack, remain)) {
 					ItemStack removed = decrStackSize(i, remain.stackSize);
 					remain.stackSize -= removed.stackSize;
 				}
@@ -11,18 +11,37 @@
 package forestry.core.utils;
 
 
+import java.util.List;
+
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import net.minecraftforge.oredict.OreDictionary;
 
+import forestry.core.config.Defaults;
+
 public class ItemStackMap<T> extends StackMap<ItemStack, T> {
 	private static final long serialVersionUID = -8511966739130702305L;
 
+	private static int oreDictionaryGeneration;
+
+	/**
+	 * Invalidates the indices of all maps with ore dictionary keys.
+	 */
+	public static void onOreRegistration() {
+		oreDictionaryGeneration++;
+	}
+
+	public static int getOreDictionaryGeneration() {
+		return oreDictionaryGeneration;
+	}
+
 	@Override
 	protected boolean areEqual(ItemStack a, Object b) {
 		if(b instanceof ItemStack) {
 			ItemStack b2 = (ItemStack) b;
+			if(b2.getItemDamage() == Defaults.WILDCARD)
+				return a.getItem() == b2.getItem() && ItemStack.areItemStackTagsEqual(a, b2);
 			return a.isItemEqual(b2) && ItemStack.areItemStackTagsEqual(a, b2);
 		}
 		if(b instanceof Item) {
@@ -36,6 +55,48 @@ public class ItemStackMap<T> extends StackMap<ItemStack, T> {
 		return false;
 	}
 
+	@Override
+	protected void addIndexEntries(Object key, List<IndexEntry> entries) {
+		if(key instanceof String) {
+			// Expand ore dictionary keys once instead of on every lookup.
+			for(ItemStack ore : OreDictionary.getOres((String) key))
+				entries.add(new IndexEntry(key, ore));
+		} else
+			super.addIndexEntries(key, entries);
+	}
+
+	@Override
+	protected int getIndexGeneration() {
+		return oreDictionaryGeneration;
+	}
+
+	@Override
+	protected Object getIndexKey(Object match) {
+		if(match instanceof ItemStack) {
+			ItemStack stack = (ItemStack) match;
+			if(stack.getItem() == null)
+				return null;
+			return getKey(stack.getItem(), stack.getItemDamage());
+		}
+		if(match instanceof Item)
+			return getKey((Item) match, Defaults.WILDCARD);
+		return null;
+	}
+
+	@Override
+	protected Object getLookupKey(ItemStack stack) {
+		return getKey(stack.getItem(), stack.getItemDamage());
+	}
+
+	@Override
+	protected Object getWildcardLookupKey(ItemStack stack) {
+		return getKey(stack.getItem(), Defaults.WILDCARD);
+	}
+
+	private static Long getKey(Item item, int damage) {
+		return ((long) Item.getIdFromItem(item) << 16) | (damage & 0xffff);
+	}
+
 	@Override
 	protected boolean isValidKey(Object key) {
 		return key instanceof ItemStack || key instanceof Item || key instanceof String;
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash set of primitive longs. Avoids boxing for hot lookups
+ * like packed block coordinates.
+ */
+public class LongHashSet {
+
+	private static final long EMPTY = 0;
+
+	private long[] keys;
+	private int mask;
+	private int size;
+	private boolean containsEmpty;
+
+	public LongHashSet() {
+		this(16);
+	}
+
+	public LongHashSet(int expectedSize) {
+		int capacity = 4;
+		while (capacity < expectedSize * 2)
+			capacity <<= 1;
+		keys = new long[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * @return true if the key was not contained before.
+	 */
+	public boolean add(long key) {
+		if (key == EMPTY) {
+			if (containsEmpty)
+				return false;
+			containsEmpty = true;
+			size++;
+			return true;
+		}
+
+		int index = indexOf(key);
+		if (keys[index] == key)
+			return false;
+
+		keys[index] = key;
+		size++;
+		if (size * 2 > keys.length)
+			rehash(keys.length << 1);
+		return true;
+	}
+
+	/**
+	 * @return true if the key was contained.
+	 */
+	public boolean remove(long key) {
+		if (key == EMPTY) {
+			if (!containsEmpty)
+				return false;
+			containsEmpty = false;
+			size--;
+			return true;
+		}
+
+		int index = indexOf(key);
+		if (keys[index] != key)
+			return false;
+
+		// Shift following keys of the same probe run back so lookups still find them.
+		int next = (index + 1) & mask;
+		while (keys[next] != EMPTY) {
+			int home = hash(keys[next]) & mask;
+			if (((next - home) & mask) >= ((next - index) & mask)) {
+				keys[index] = keys[next];
+				index = next;
+			}
+			next = (next + 1) & mask;
+		}
+		keys[index] = EMPTY;
+		size--;
+		return true;
+	}
+
+	public boolean contains(long key) {
+		if (key == EMPTY)
+			return containsEmpty;
+		return keys[indexOf(key)] == key;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		if (size == 0)
+			return;
+		Arrays.fill(keys, EMPTY);
+		containsEmpty = false;
+		size = 0;
+	}
+
+	/**
+	 * @return Slot holding the key, or the empty slot where it would go.
+	 */
+	private int indexOf(long key) {
+		int index = hash(key) & mask;
+		while (keys[index] != EMPTY && keys[index] != key)
+			index = (index + 1) & mask;
+		return index;
+	}
+
+	private void rehash(int capacity) {
+		long[] old = keys;
+		keys = new long[capacity];
+		mask = capacity - 1;
+		for (long key : old)
+			if (key != EMPTY)
+				keys[indexOf(key)] = key;
+	}
+
+	private static int hash(long key) {
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/* COORDINATES */
+	/**
+	 * Packs block coordinates into a single long. x and z keep 26 bits, y keeps 12 bits.
+	 */
+	public static long packCoords(int x, int y, int z) {
+		return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+	}
+
+	public static int unpackX(long packed) {
+		return (int) (packed >> 38);
+	}
+
+	public static int unpackY(long packed) {
+		return (int) (packed << 52 >> 52);
+	}
+
+	public static int unpackZ(long packed) {
+		return (int) (packed << 26 >> 38);
+	}
+}
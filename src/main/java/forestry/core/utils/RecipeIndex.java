@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import forestry.core.config.Defaults;
+
+/**
+ * Index over a list of machine recipes, keyed by the primary input of each recipe.
+ *
+ * Lookups return only the recipes which can possibly match the given stack, in
+ * registration order, so the first matching candidate is the same recipe a scan
+ * of the whole list would find. Ore dictionary inputs are expanded when the index
+ * is built. The index is rebuilt whenever the backing list no longer holds the same
+ * recipes in the same order or ores are registered, so recipes added, removed or
+ * replaced directly in the public lists are picked up too.
+ */
+public abstract class RecipeIndex<R> {
+
+	private final List<R> recipes;
+
+	private Map<Object, List<R>> index;
+	private List<R> unindexed;
+	private Map<R, Integer> ordinals;
+	private Object[] indexed;
+	private int indexedGeneration;
+
+	public RecipeIndex(List<R> recipes) {
+		this.recipes = recipes;
+	}
+
+	/**
+	 * @return The input the recipe is looked up by. Either an ItemStack, an Item, a FluidStack, an ore dictionary
+	 *         name or a collection of alternative ItemStacks. Recipes returning null are candidates for every lookup.
+	 */
+	protected abstract Object getInput(R recipe);
+
+	/**
+	 * @return Recipes which may match the given stack, in registration order.
+	 */
+	public synchronized List<R> getCandidates(ItemStack stack) {
+		validate();
+		if (stack == null || stack.getItem() == null)
+			return unindexed;
+
+		List<R> candidates = index.get(getKey(stack.getItem(), stack.getItemDamage()));
+		if (candidates == null)
+			candidates = index.get(getKey(stack.getItem(), Defaults.WILDCARD));
+		return candidates != null ? candidates : unindexed;
+	}
+
+	/**
+	 * @return Recipes which may match any of the given stacks, in registration order.
+	 */
+	public synchronized List<R> getCandidates(ItemStack[] stacks) {
+		validate();
+
+		List<R> first = null;
+		List<List<R>> buckets = null;
+		for (ItemStack stack : stacks) {
+			if (stack == null)
+				continue;
+
+			List<R> candidates = getCandidates(stack);
+			if (candidates == unindexed || candidates == first)
+				continue;
+			if (first == null) {
+				first = candidates;
+				continue;
+			}
+
+			if (buckets == null) {
+				buckets = new ArrayList<List<R>>();
+				buckets.add(first);
+			}
+			if (!containsBucket(buckets, candidates))
+				buckets.add(candidates);
+		}
+
+		if (first == null)
+			return unindexed;
+		if (buckets == null)
+			return first;
+		return merge(buckets);
+	}
+
+	/**
+	 * @return Recipes which may match the given fluid, in registration order.
+	 */
+	public synchronized List<R> getCandidates(FluidStack fluid) {
+		validate();
+		if (fluid == null || fluid.getFluid() == null)
+			return unindexed;
+
+		List<R> candidates = index.get(fluid.getFluid().getName());
+		return candidates != null ? candidates : unindexed;
+	}
+
+	private void validate() {
+		int generation = ItemStackMap.getOreDictionaryGeneration();
+		if (index != null && indexedGeneration == generation && isUnchanged())
+			return;
+
+		ordinals = new IdentityHashMap<R, Integer>();
+		unindexed = new ArrayList<R>();
+		Map<Object, List<R>> keyed = new HashMap<Object, List<R>>();
+		List<Object> keys = new ArrayList<Object>();
+
+		for (int i = 0; i < recipes.size(); i++) {
+			R recipe = recipes.get(i);
+			ordinals.put(recipe, i);
+
+			keys.clear();
+			addKeys(getInput(recipe), keys);
+			if (keys.isEmpty()) {
+				unindexed.add(recipe);
+				continue;
+			}
+
+			for (Object key : keys) {
+				List<R> bucket = keyed.get(key);
+				if (bucket == null) {
+					bucket = new ArrayList<R>();
+					keyed.put(key, bucket);
+				}
+				if (bucket.isEmpty() || bucket.get(bucket.size() - 1) != recipe)
+					bucket.add(recipe);
+			}
+		}
+
+		// Fold wildcard and unindexed recipes into every bucket so a lookup is a single get.
+		index = new HashMap<Object, List<R>>();
+		List<List<R>> buckets = new ArrayList<List<R>>();
+		for (Map.Entry<Object, List<R>> entry : keyed.entrySet()) {
+			buckets.clear();
+			buckets.add(entry.getValue());
+			buckets.add(unindexed);
+
+			Object key = entry.getKey();
+			if (key instanceof Long && (((Long) key) & 0xffff) != Defaults.WILDCARD) {
+				List<R> wildcard = keyed.get((((Long) key) & ~0xffffL) | Defaults.WILDCARD);
+				if (wildcard != null)
+					buckets.add(wildcard);
+			}
+
+			index.put(key, merge(buckets));
+		}
+
+		indexed = recipes.toArray();
+		indexedGeneration = generation;
+	}
+
+	private boolean isUnchanged() {
+		if (indexed.length != recipes.size())
+			return false;
+		for (int i = 0; i < indexed.length; i++)
+			if (indexed[i] != recipes.get(i))
+				return false;
+		return true;
+	}
+
+	private static boolean containsBucket(List<? extends List<?>> buckets, List<?> bucket) {
+		for (List<?> contained : buckets)
+			if (contained == bucket)
+				return true;
+		return false;
+	}
+
+	private List<R> merge(List<List<R>> buckets) {
+		List<R> merged = new ArrayList<R>();
+		for (List<R> bucket : buckets)
+			merged.addAll(bucket);
+
+		Collections.sort(merged, new Comparator<R>() {
+			@Override
+			public int compare(R a, R b) {
+				return ordinals.get(a).compareTo(ordinals.get(b));
+			}
+		});
+
+		for (int i = merged.size() - 1; i > 0; i--)
+			if (merged.get(i) == merged.get(i - 1))
+				merged.remove(i);
+
+		return merged;
+	}
+
+	private static void addKeys(Object input, List<Object> keys) {
+		if (input instanceof ItemStack) {
+			ItemStack stack = (ItemStack) input;
+			if (stack.getItem() != null)
+				keys.add(getKey(stack.getItem(), stack.getItemDamage()));
+		} else if (input instanceof Item)
+			keys.add(getKey((Item) input, Defaults.WILDCARD));
+		else if (input instanceof FluidStack) {
+			FluidStack fluid = (FluidStack) input;
+			if (fluid.getFluid() != null)
+				keys.add(fluid.getFluid().getName());
+		} else if (input instanceof String)
+			addKeys(OreDictionary.getOres((String) input), keys);
+		else if (input instanceof Collection)
+			for (Object alternative : (Collection<?>) input)
+				addKeys(alternative, keys);
+	}
+
+	private static Long getKey(Item item, int damage) {
+		return ((long) Item.getIdFromItem(item) << 16) | (damage & 0xffff);
+	}
+}
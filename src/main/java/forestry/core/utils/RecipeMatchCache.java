@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.utils;
+
+import net.minecraft.item.ItemStack;
+
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * Remembers the last recipe a machine looked up together with the inputs it was looked up for.
+ *
+ * As long as the inputs stay the same, the machine can reuse the result instead of
+ * asking its recipe manager again. Stack sizes and fluid amounts are only compared
+ * for machines whose recipes depend on them.
+ */
+public class RecipeMatchCache<R> {
+
+	private static final ItemStack[] NO_ITEMS = new ItemStack[0];
+
+	private final boolean compareAmounts;
+	private ItemStack[] items = NO_ITEMS;
+	private FluidStack fluid;
+	private R recipe;
+	private boolean valid;
+
+	public RecipeMatchCache(boolean compareAmounts) {
+		this.compareAmounts = compareAmounts;
+	}
+
+	public boolean isValid(ItemStack item, FluidStack fluid) {
+		return valid && items.length == 1 && isItemEqual(items[0], item) && isFluidEqual(fluid);
+	}
+
+	public boolean isValid(ItemStack[] items, FluidStack fluid) {
+		if (!valid || this.items.length != items.length || !isFluidEqual(fluid))
+			return false;
+
+		for (int i = 0; i < items.length; i++)
+			if (!isItemEqual(this.items[i], items[i]))
+				return false;
+
+		return true;
+	}
+
+	public R getRecipe() {
+		return recipe;
+	}
+
+	public R set(R recipe, ItemStack item, FluidStack fluid) {
+		return set(recipe, new ItemStack[] { item }, fluid);
+	}
+
+	public R set(R recipe, ItemStack[] items, FluidStack fluid) {
+		this.items = new ItemStack[items.length];
+		for (int i = 0; i < items.length; i++)
+			this.items[i] = items[i] != null ? items[i].copy() : null;
+		this.fluid = fluid != null ? fluid.copy() : null;
+		this.recipe = recipe;
+		this.valid = true;
+		return recipe;
+	}
+
+	public void invalidate() {
+		items = NO_ITEMS;
+		fluid = null;
+		recipe = null;
+		valid = false;
+	}
+
+	private boolean isItemEqual(ItemStack cached, ItemStack other) {
+		if (cached == null || other == null)
+			return cached == other;
+		if (compareAmounts && cached.stackSize != other.stackSize)
+			return false;
+		return cached.isItemEqual(other) && ItemStack.areItemStackTagsEqual(cached, other);
+	}
+
+	private boolean isFluidEqual(FluidStack other) {
+		if (fluid == null || other == null)
+			return fluid == other;
+		if (compareAmounts && fluid.amount != other.amount)
+			return false;
+		return fluid.isFluidEqual(other);
+	}
+}
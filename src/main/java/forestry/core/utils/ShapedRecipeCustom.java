@@ -69,6 +69,27 @@ public class ShapedRecipeCustom implements IDescriptiveRecipe {
 		return ingredients;
 	}
 
+	/**
+	 * @return The first ingredient of the pattern which is not empty, null if there is none.
+	 */
+	public Object getFirstIngredient() {
+		for (Object ingredient : ingredients)
+			if (ingredient != null)
+				return ingredient;
+		return null;
+	}
+
+	/**
+	 * @return The given nine crafting slots as a grid suitable for {@link #matches(ItemStack[][])}.
+	 */
+	public static ItemStack[][] getResources(ItemStack[] stacks) {
+		ItemStack[][] resources = new ItemStack[3][3];
+		for (int i = 0; i < 3; i++)
+			for (int j = 0; j < 3; j++)
+				resources[j][i] = stacks[i * 3 + j];
+		return resources;
+	}
+
 	@Override
 	public boolean matches(InventoryCrafting inventorycrafting, World world) {
 		ItemStack[][] resources = new ItemStack[3][3];
@@ -10,12 +10,22 @@
  ******************************************************************************/
 package forestry.core.utils;
 
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
  * Map for fluids and items. Can add things like ore dictionary strings etc.
+ * 
+ * Lookups go through an index of the stored keys, so only the few keys which
+ * can possibly match the looked up stack are compared with {@link #areEqual}.
  * @author Alex Binnie
  *
  * @param <T> The thing this map maps onto
@@ -23,22 +33,170 @@ import java.util.Map;
  */
 public abstract class StackMap<P, T> extends HashMap<Object, T>{
 	
+	private static final long serialVersionUID = 5383477742290646466L;
+
+	/**
+	 * A stored key together with the object lookups are compared against.
+	 * For ore dictionary keys this is the single expanded ore stack.
+	 */
+	protected static final class IndexEntry {
+		public final Object key;
+		public final Object match;
+
+		public IndexEntry(Object key, Object match) {
+			this.key = key;
+			this.match = match;
+		}
+	}
+
+	private transient Map<Object, List<IndexEntry>> index;
+	private transient int indexGeneration;
+
 	@Override
 	public final T put(Object key, T value) {
-		if(isValidKey(key) && key != null && value != null)
+		if(isValidKey(key) && key != null && value != null) {
+			index = null;
 			return super.put(key, value);
+		}
 		return null;
 	}
 
-	private static final long serialVersionUID = 5383477742290646466L;
+	@Override
+	public void putAll(Map<? extends Object, ? extends T> map) {
+		for (Map.Entry<? extends Object, ? extends T> entry : map.entrySet())
+			put(entry.getKey(), entry.getValue());
+	}
+
+	@Override
+	public T remove(Object key) {
+		index = null;
+		return super.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		index = null;
+		super.clear();
+	}
+
+	/*
+	 * Views can remove entries too, so they drop the index the same way.
+	 */
+	@Override
+	public Set<Object> keySet() {
+		return new IndexedSet<Object>(super.keySet());
+	}
+
+	@Override
+	public Set<Map.Entry<Object, T>> entrySet() {
+		return new IndexedSet<Map.Entry<Object, T>>(super.entrySet());
+	}
+
+	@Override
+	public Collection<T> values() {
+		return new IndexedCollection<T>(super.values());
+	}
+
+	private class IndexedIterator<E> implements Iterator<E> {
+		private final Iterator<E> iterator;
+
+		public IndexedIterator(Iterator<E> iterator) {
+			this.iterator = iterator;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return iterator.hasNext();
+		}
+
+		@Override
+		public E next() {
+			return iterator.next();
+		}
+
+		@Override
+		public void remove() {
+			index = null;
+			iterator.remove();
+		}
+	}
+
+	private class IndexedCollection<E> extends AbstractCollection<E> {
+		private final Collection<E> view;
+
+		public IndexedCollection(Collection<E> view) {
+			this.view = view;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new IndexedIterator<E>(view.iterator());
+		}
+
+		@Override
+		public int size() {
+			return view.size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return view.contains(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			index = null;
+			return view.remove(o);
+		}
+
+		@Override
+		public void clear() {
+			index = null;
+			view.clear();
+		}
+	}
+
+	private class IndexedSet<E> extends AbstractSet<E> {
+		private final Set<E> view;
+
+		public IndexedSet(Set<E> view) {
+			this.view = view;
+		}
+
+		@Override
+		public Iterator<E> iterator() {
+			return new IndexedIterator<E>(view.iterator());
+		}
+
+		@Override
+		public int size() {
+			return view.size();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return view.contains(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			index = null;
+			return view.remove(o);
+		}
+
+		@Override
+		public void clear() {
+			index = null;
+			view.clear();
+		}
+	}
 
 	@Override
 	public final boolean containsKey(Object key) {
 		P stack = getStack(key);
 		if(stack == null) return false;
-		for (Map.Entry<Object, T> entry : this.entrySet())
-			if (areEqual(stack, entry.getKey()))
-				return true;
+		if(findKey(stack) != null)
+			return true;
 		return super.containsKey(key);
 	}
 
@@ -46,12 +204,104 @@ public abstract class StackMap<P, T> extends HashMap<Object, T>{
 	public final T get(Object key) {
 		P stack = getStack(key);
 		if(stack == null) return null;
-		for (Map.Entry<Object, T> entry : this.entrySet())
-			if (areEqual(stack, entry.getKey()))
-				return entry.getValue();
+		Object found = findKey(stack);
+		if(found != null)
+			return super.get(found);
 		return super.get(key);
 	}
 
+	private Object findKey(P stack) {
+		Map<Object, List<IndexEntry>> index = getIndex();
+
+		Object found = findKey(index.get(getLookupKey(stack)), stack);
+		if(found != null)
+			return found;
+
+		Object wildcard = getWildcardLookupKey(stack);
+		if(wildcard != null)
+			return findKey(index.get(wildcard), stack);
+
+		return null;
+	}
+
+	private Object findKey(List<IndexEntry> candidates, P stack) {
+		if(candidates == null)
+			return null;
+		for (int i = 0; i < candidates.size(); i++) {
+			IndexEntry entry = candidates.get(i);
+			if (areEqual(stack, entry.match))
+				return entry.key;
+		}
+		return null;
+	}
+
+	private Map<Object, List<IndexEntry>> getIndex() {
+		if(index != null && indexGeneration == getIndexGeneration())
+			return index;
+
+		Map<Object, List<IndexEntry>> rebuilt = new HashMap<Object, List<IndexEntry>>();
+		List<IndexEntry> entries = new ArrayList<IndexEntry>();
+		for (Object key : keySet()) {
+			entries.clear();
+			addIndexEntries(key, entries);
+			for (IndexEntry entry : entries) {
+				Object indexKey = getIndexKey(entry.match);
+				if(indexKey == null)
+					continue;
+				List<IndexEntry> bucket = rebuilt.get(indexKey);
+				if(bucket == null) {
+					bucket = new ArrayList<IndexEntry>(1);
+					rebuilt.put(indexKey, bucket);
+				}
+				bucket.add(entry);
+			}
+		}
+
+		indexGeneration = getIndexGeneration();
+		index = rebuilt;
+		return index;
+	}
+
+	/**
+	 * Adds the entries under which a stored key is indexed. Defaults to the key itself.
+	 * @param key
+	 * @param entries
+	 */
+	protected void addIndexEntries(Object key, List<IndexEntry> entries) {
+		entries.add(new IndexEntry(key, key));
+	}
+
+	/**
+	 * The index is rebuilt whenever this changes, i.e. because the ore dictionary changed.
+	 * @return
+	 */
+	protected int getIndexGeneration() {
+		return 0;
+	}
+
+	/**
+	 * Index key for an object stored in or expanded from a key of this map.
+	 * @param match
+	 * @return
+	 */
+	protected abstract Object getIndexKey(Object match);
+
+	/**
+	 * Index key to look up a stack by. Must equal the index key of every matching stored key which is not a wildcard.
+	 * @param stack
+	 * @return
+	 */
+	protected abstract Object getLookupKey(P stack);
+
+	/**
+	 * Index key of wildcard keys which can match the stack, null if there are none.
+	 * @param stack
+	 * @return
+	 */
+	protected Object getWildcardLookupKey(P stack) {
+		return null;
+	}
+
 	/**
 	 * Is a, the key used to lookup, equivelant to the key b
 	 * @param a
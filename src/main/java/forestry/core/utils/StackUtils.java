@@ -30,6 +30,7 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import forestry.core.config.Defaults;
 import forestry.core.gadgets.TileForestry;
+import forestry.core.genetics.Genome;
 
 public class StackUtils {
 
@@ -54,9 +55,34 @@ public class StackUtils {
 			if (lhs.getItemDamage() != rhs.getItemDamage())
 				return false;
 
+		return areItemStackTagsEqual(lhs, rhs);
+	}
+
+	/**
+	 * Same as {@link ItemStack#areItemStackTagsEqual(ItemStack, ItemStack)}, but rejects genetic items with different genome fingerprints without
+	 * comparing their whole tags.
+	 */
+	public static boolean areItemStackTagsEqual(ItemStack lhs, ItemStack rhs) {
+		NBTTagCompound lhsTag = lhs.getTagCompound();
+		NBTTagCompound rhsTag = rhs.getTagCompound();
+		if (lhsTag == rhsTag)
+			return true;
+
+		if (lhsTag != null && rhsTag != null) {
+			long lhsFingerprint = getGenomeFingerprint(lhsTag);
+			if (lhsFingerprint != 0 && lhsFingerprint != getGenomeFingerprint(rhsTag))
+				return false;
+		}
+
 		return ItemStack.areItemStackTagsEqual(lhs, rhs);
 	}
 
+	private static long getGenomeFingerprint(NBTTagCompound tag) {
+		if (!tag.hasKey("Genome"))
+			return 0;
+		return Genome.getFingerprint(tag.getCompoundTag("Genome"));
+	}
+
 	public static boolean stowInInventory(ItemStack itemstack, IInventory inventory, boolean doAdd) {
 		return stowInInventory(itemstack, inventory, doAdd, 0, inventory.getSizeInventory());
 	}
@@ -84,7 +110,7 @@ public class StackUtils {
 			// Not same type
 			if (!inventoryStack.isItemEqual(itemstack))
 				continue;
-			if (!ItemStack.areItemStackTagsEqual(inventoryStack, itemstack))
+			if (!areItemStackTagsEqual(inventoryStack, itemstack))
 				continue;
 
 			int space = inventoryStack.getMaxStackSize() - inventoryStack.stackSize;
@@ -55,6 +55,7 @@ import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IPollinatable;
 import forestry.core.config.Config;
 import forestry.core.gadgets.TileForestry;
+import forestry.core.genetics.ErsatzIndex;
 import forestry.core.proxy.Proxies;
 import forestry.plugins.PluginArboriculture;
 
@@ -397,18 +398,10 @@ public class Utils {
 		else if (!world.isAirBlock(x, y, z)) {
 
 			// Test for ersatz genomes
-			for (Map.Entry<ItemStack, IIndividual> entry : AlleleManager.ersatzSpecimen.entrySet()) {
-				if (!StackUtils.equals(world.getBlock(x, y, z), entry.getKey()))
-					continue;
-
-				int meta = world.getBlockMetadata(x, y, z);
-				if (StackUtils.equals(Blocks.leaves, entry.getKey()))
-					meta = meta & 3;
-				if (entry.getKey().getItemDamage() != meta)
-					continue;
-
+			IIndividual specimen = ErsatzIndex.getSpecimen(world.getBlock(x, y, z), world.getBlockMetadata(x, y, z));
+			if (specimen != null) {
 				// We matched, replace the leaf block with ours and set the ersatz genome
-				PluginArboriculture.treeInterface.setLeaves(world, entry.getValue(), owner, x, y, z);
+				PluginArboriculture.treeInterface.setLeaves(world, specimen, owner, x, y, z);
 				// Now let's pollinate
 				receiver = (IPollinatable) world.getTileEntity(x, y, z);
 			}
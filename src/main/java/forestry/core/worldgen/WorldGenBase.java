@@ -10,8 +10,11 @@
  ******************************************************************************/
 package forestry.core.worldgen;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
+import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.gen.feature.WorldGenerator;
 
@@ -34,7 +37,10 @@ public abstract class WorldGenBase extends WorldGenerator {
 		float z;
 
 		public static double distance(Vector a, Vector b) {
-			return Math.sqrt(Math.pow(a.x - b.x, 2) + Math.pow(a.y - b.y, 2) + Math.pow(a.z - b.z, 2));
+			double dx = a.x - b.x;
+			double dy = a.y - b.y;
+			double dz = a.z - b.z;
+			return Math.sqrt(dx * dx + dy * dy + dz * dz);
 		}
 	}
 	protected World world;
@@ -70,13 +76,15 @@ public abstract class WorldGenBase extends WorldGenerator {
 	 * Center is the bottom middle of the cylinder
 	 */
 	protected final void generateCylinder(Vector center, float radius, int height, BlockType block, EnumReplaceMode replace) {
-		Vector start = new Vector(center.x - radius, center.y, center.z - radius);
-		Vector area = new Vector(radius * 2 + 1, height, radius * 2 + 1);
-		for (int x = (int) start.x; x < (int) start.x + area.x; x++) {
-			for (int y = (int) start.y; y < (int) start.y + area.y; y++) {
-				for (int z = (int) start.z; z < (int) start.z + area.z; z++) {
-					if (Vector.distance(new Vector(x, y, z), new Vector(center.x, y, center.z)) <= (radius) + 0.01)
-						addBlock(x, y, z, block, replace);
+		Disk disk = Disk.get(center.x, center.z, radius, -1);
+		int startX = MathHelper.floor_float(center.x) + disk.offsetX;
+		int startY = (int) center.y;
+		int startZ = MathHelper.floor_float(center.z) + disk.offsetZ;
+		for (int ix = 0; ix < disk.sizeX; ix++) {
+			for (int y = startY; y < startY + height; y++) {
+				for (int iz = 0; iz < disk.sizeZ; iz++) {
+					if (disk.contains(ix, iz))
+						addBlock(startX + ix, y, startZ + iz, block, replace);
 				}
 			}
 		}
@@ -87,34 +95,178 @@ public abstract class WorldGenBase extends WorldGenerator {
 	}
 
 	protected final void generateCircle(Vector center, float radius, int width, int height, BlockType block, float chance, EnumReplaceMode replace) {
-		Vector start = new Vector(center.x - radius, center.y, center.z - radius);
-		Vector area = new Vector(radius * 2 + 1, height, radius * 2 + 1);
-
-		for (int x = (int) start.x; x < (int) start.x + area.x; x++) {
-			for (int y = (int) start.y; y < (int) start.y + area.y; y++) {
-				for (int z = (int) start.z; z < (int) start.z + area.z; z++) {
+		Disk disk = Disk.get(center.x, center.z, radius, width);
+		int startX = MathHelper.floor_float(center.x) + disk.offsetX;
+		int startY = (int) center.y;
+		int startZ = MathHelper.floor_float(center.z) + disk.offsetZ;
+		for (int ix = 0; ix < disk.sizeX; ix++) {
+			for (int y = startY; y < startY + height; y++) {
+				for (int iz = 0; iz < disk.sizeZ; iz++) {
 
+					// Always drawn, keeps generation identical for the same seed.
 					if (rand.nextFloat() > chance)
 						continue;
 
-					double distance = Vector.distance(new Vector(x, y, z), new Vector(center.x, y, center.z));
-					if ((radius - width - 0.01 < distance && distance <= (radius) + 0.01))
-						addBlock(x, y, z, block, replace);
+					if (disk.contains(ix, iz))
+						addBlock(startX + ix, y, startZ + iz, block, replace);
 				}
 			}
 		}
 	}
 
 	protected final void generateSphere(Vector center, int radius, BlockType block, EnumReplaceMode replace) {
-		Vector start = new Vector(center.x - radius, center.y - radius, center.z - radius);
-		Vector area = new Vector(radius * 2 + 1, radius * 2 + 1, radius * 2 + 1);
-		for (int x = (int) start.x; x < (int) start.x + area.x; x++) {
-			for (int y = (int) start.y; y < (int) start.y + area.y; y++) {
-				for (int z = (int) start.z; z < (int) start.z + area.z; z++) {
-					if (Vector.distance(new Vector(x, y, z), new Vector(center.x, center.y, center.z)) <= (radius) + 0.01)
+		int startX = (int) (center.x - radius);
+		int startY = (int) (center.y - radius);
+		int startZ = (int) (center.z - radius);
+		int size = radius * 2 + 1;
+		double limit = (radius + 0.01) * (radius + 0.01);
+
+		for (int x = startX; x < startX + size; x++) {
+			double dx = x - center.x;
+			for (int y = startY; y < startY + size; y++) {
+				double dy = y - center.y;
+				double dxy = dx * dx + dy * dy;
+				if (dxy > limit)
+					continue;
+				for (int z = startZ; z < startZ + size; z++) {
+					double dz = z - center.z;
+					if (dxy + dz * dz <= limit)
 						addBlock(x, y, z, block, replace);
 				}
 			}
 		}
 	}
+
+	/**
+	 * Columns covered by a disk or ring, relative to the block containing its center. Computed once per radius, width and fractional center
+	 * and then shared by all layers and trees using the same shape. Membership is decided on squared distances.
+	 */
+	private static final class Disk {
+
+		private static final int MAX_CACHED = 512;
+		private static final Map<DiskKey, Disk> cache = new HashMap<DiskKey, Disk>();
+		private static final DiskKey lookup = new DiskKey();
+
+		/**
+		 * @param width
+		 *            Width of the ring, -1 for a solid disk.
+		 * @return Mask whose offsets are relative to the floored center.
+		 */
+		public static synchronized Disk get(float centerX, float centerZ, float radius, int width) {
+			int floorX = MathHelper.floor_float(centerX);
+			int floorZ = MathHelper.floor_float(centerZ);
+			int startX = (int) (centerX - radius);
+			int startZ = (int) (centerZ - radius);
+
+			lookup.set(centerX - floorX, centerZ - floorZ, radius, width, startX - floorX, startZ - floorZ, getSpan(startX, radius * 2 + 1),
+					getSpan(startZ, radius * 2 + 1));
+			Disk disk = cache.get(lookup);
+			if (disk == null) {
+				if (cache.size() >= MAX_CACHED)
+					cache.clear();
+				DiskKey key = lookup.copy();
+				disk = new Disk(key);
+				cache.put(key, disk);
+			}
+			return disk;
+		}
+
+		/**
+		 * @return Number of blocks the original loops visited, which compared against start + area in floats.
+		 */
+		private static int getSpan(int start, float area) {
+			int span = 0;
+			while (start + span < start + area)
+				span++;
+			return span;
+		}
+
+		public final int offsetX;
+		public final int offsetZ;
+		public final int sizeX;
+		public final int sizeZ;
+		private final boolean[] columns;
+
+		private Disk(DiskKey key) {
+			offsetX = key.offsetX;
+			offsetZ = key.offsetZ;
+			sizeX = key.sizeX;
+			sizeZ = key.sizeZ;
+
+			double outer = (key.radius + 0.01) * (key.radius + 0.01);
+			double innerRadius = key.radius - key.width - 0.01;
+			double inner = key.width >= 0 && innerRadius > 0 ? innerRadius * innerRadius : -1;
+
+			columns = new boolean[sizeX * sizeZ];
+			for (int ix = 0; ix < sizeX; ix++) {
+				double dx = offsetX + ix - key.fractionX;
+				for (int iz = 0; iz < sizeZ; iz++) {
+					double dz = offsetZ + iz - key.fractionZ;
+					double distance = dx * dx + dz * dz;
+					columns[ix * sizeZ + iz] = distance > inner && distance <= outer;
+				}
+			}
+		}
+
+		public boolean contains(int ix, int iz) {
+			return columns[ix * sizeZ + iz];
+		}
+	}
+
+	/**
+	 * Shape of a disk independent of its position. Offsets and spans are part of the key since the original loops truncated towards zero
+	 * and compared in floats, so they are not fully determined by the fractional center.
+	 */
+	private static final class DiskKey {
+		private double fractionX;
+		private double fractionZ;
+		private float radius;
+		private int width;
+		private int offsetX;
+		private int offsetZ;
+		private int sizeX;
+		private int sizeZ;
+
+		public void set(double fractionX, double fractionZ, float radius, int width, int offsetX, int offsetZ, int sizeX, int sizeZ) {
+			this.fractionX = fractionX;
+			this.fractionZ = fractionZ;
+			this.radius = radius;
+			this.width = width;
+			this.offsetX = offsetX;
+			this.offsetZ = offsetZ;
+			this.sizeX = sizeX;
+			this.sizeZ = sizeZ;
+		}
+
+		public DiskKey copy() {
+			DiskKey copy = new DiskKey();
+			copy.set(fractionX, fractionZ, radius, width, offsetX, offsetZ, sizeX, sizeZ);
+			return copy;
+		}
+
+		@Override
+		public int hashCode() {
+			long bits = Double.doubleToLongBits(fractionX);
+			int result = (int) (bits ^ (bits >>> 32));
+			bits = Double.doubleToLongBits(fractionZ);
+			result = 31 * result + (int) (bits ^ (bits >>> 32));
+			result = 31 * result + Float.floatToIntBits(radius);
+			result = 31 * result + width;
+			result = 31 * result + offsetX;
+			result = 31 * result + offsetZ;
+			result = 31 * result + sizeX;
+			return 31 * result + sizeZ;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof DiskKey))
+				return false;
+			DiskKey other = (DiskKey) obj;
+			return Double.doubleToLongBits(fractionX) == Double.doubleToLongBits(other.fractionX)
+					&& Double.doubleToLongBits(fractionZ) == Double.doubleToLongBits(other.fractionZ)
+					&& Float.floatToIntBits(radius) == Float.floatToIntBits(other.radius) && width == other.width && offsetX == other.offsetX
+					&& offsetZ == other.offsetZ && sizeX == other.sizeX && sizeZ == other.sizeZ;
+		}
+	}
 }
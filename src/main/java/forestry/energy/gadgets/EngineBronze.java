@@ -223,8 +223,9 @@ public class EngineBronze extends Engine implements ISpecialInventory, ILiquidTa
 	 * @return
 	 */
 	private int determineFuelValue(Fluid fluid) {
-		if (FuelManager.bronzeEngineFuel.containsKey(fluid))
-			return FuelManager.bronzeEngineFuel.get(fluid).powerPerCycle;
+		EngineBronzeFuel entry = FuelManager.bronzeEngineFuel.get(fluid);
+		if (entry != null)
+			return entry.powerPerCycle;
 		else
 			return 0;
 	}
@@ -235,8 +236,9 @@ public class EngineBronze extends Engine implements ISpecialInventory, ILiquidTa
 	 * @return Duration of burn cycle of one bucket
 	 */
 	private int determineBurnTime(Fluid item) {
-		if (FuelManager.bronzeEngineFuel.containsKey(item))
-			return FuelManager.bronzeEngineFuel.get(item).burnDuration;
+		EngineBronzeFuel entry = FuelManager.bronzeEngineFuel.get(item);
+		if (entry != null)
+			return entry.burnDuration;
 		else
 			return 0;
 	}
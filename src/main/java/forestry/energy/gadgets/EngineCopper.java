@@ -29,6 +29,7 @@ import buildcraft.api.gates.ITrigger;
 
 import forestry.api.core.ForestryAPI;
 import forestry.api.core.ISpecialInventory;
+import forestry.api.fuels.EngineCopperFuel;
 import forestry.api.fuels.FuelManager;
 import forestry.core.EnumErrorCode;
 import forestry.core.TemperatureState;
@@ -208,8 +209,9 @@ public class EngineCopper extends Engine implements ISpecialInventory, ISidedInv
 	 * @return
 	 */
 	private int determineFuelValue(ItemStack fuel) {
-		if (FuelManager.copperEngineFuel.containsKey(fuel))
-			return FuelManager.copperEngineFuel.get(fuel).powerPerCycle;
+		EngineCopperFuel entry = FuelManager.copperEngineFuel.get(fuel);
+		if (entry != null)
+			return entry.powerPerCycle;
 		else
 			return 0;
 	}
@@ -221,8 +223,9 @@ public class EngineCopper extends Engine implements ISpecialInventory, ISidedInv
 	 * @return
 	 */
 	private int determineBurnDuration(ItemStack fuel) {
-		if (FuelManager.copperEngineFuel.containsKey(fuel))
-			return FuelManager.copperEngineFuel.get(fuel).burnDuration;
+		EngineCopperFuel entry = FuelManager.copperEngineFuel.get(fuel);
+		if (entry != null)
+			return entry.burnDuration;
 		else
 			return 0;
 	}
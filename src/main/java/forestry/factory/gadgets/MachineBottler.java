@@ -49,6 +49,8 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 
@@ -87,6 +89,20 @@ public class MachineBottler extends TilePowered implements ISidedInventory, ILiq
 	public static class RecipeManager implements IBottlerManager {
 		public static ArrayList<MachineBottler.Recipe> recipes = new ArrayList<MachineBottler.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.can;
+			}
+		};
+
+		private static final RecipeIndex<Recipe> inputIndex = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.input;
+			}
+		};
+
 		@Override
 		public void addRecipe(int cyclesPerUnit, FluidStack input, ItemStack can, ItemStack bottled) {
 			recipes.add(new MachineBottler.Recipe(cyclesPerUnit, input, can, bottled));
@@ -103,8 +119,7 @@ public class MachineBottler extends TilePowered implements ISidedInventory, ILiq
 			if (res == null || empty == null)
 				return null;
 
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : index.getCandidates(empty)) {
 				if (recipe.matches(res, empty))
 					return recipe;
 			}
@@ -127,8 +142,7 @@ public class MachineBottler extends TilePowered implements ISidedInventory, ILiq
 		 * @return true if any recipe has a matching input
 		 */
 		public static boolean isInput(FluidStack res) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : inputIndex.getCandidates(res)) {
 				if (recipe.hasInput(res))
 					return true;
 			}
@@ -156,6 +170,7 @@ public class MachineBottler extends TilePowered implements ISidedInventory, ILiq
 	private boolean productPending = false;
 
 	private Recipe currentRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(true);
 	private final Stack<ItemStack> pendingProducts = new Stack<ItemStack>();
 	private int fillingTime;
 	private int fillingTotalTime;
@@ -293,7 +308,13 @@ public class MachineBottler extends TilePowered implements ISidedInventory, ILiq
 	}
 
 	public void checkRecipe() {
-		Recipe sameRec = RecipeManager.findMatchingRecipe(resourceTank.getFluid(), inventory.getStackInSlot(SLOT_RESOURCE));
+		FluidStack liquid = resourceTank.getFluid();
+		ItemStack can = inventory.getStackInSlot(SLOT_RESOURCE);
+		Recipe sameRec;
+		if (recipeCache.isValid(can, liquid))
+			sameRec = recipeCache.getRecipe();
+		else
+			sameRec = recipeCache.set(RecipeManager.findMatchingRecipe(liquid, can), can, liquid);
 
 		if (sameRec == null)
 			setErrorState(EnumErrorCode.NORECIPE);
@@ -11,6 +11,7 @@
 package forestry.factory.gadgets;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
@@ -50,6 +51,8 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.ShapedRecipeCustom;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.TileInventoryAdapter;
@@ -102,6 +105,23 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 			return internal.matches(inventorycrafting, world);
 		}
 
+		public boolean matches(FluidStack resource, ItemStack item, ItemStack[][] resources) {
+
+			// Check liquid
+			if (liquid != null && resource == null)
+				return false;
+			if (liquid != null && !liquid.isFluidEqual(resource))
+				return false;
+
+			// Check box
+			if (box != null && item == null)
+				return false;
+			if (box != null && !box.isItemEqual(item))
+				return false;
+
+			return internal.matches(resources);
+		}
+
 		public boolean hasLiquid(FluidStack resource) {
 			if (liquid != null && resource != null)
 				return liquid.isFluidEqual(resource);
@@ -142,6 +162,28 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 
 		public static ArrayList<MachineCarpenter.Recipe> recipes = new ArrayList<MachineCarpenter.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				// Any ingredient of the pattern has to be present in the grid, so the first one will do.
+				return recipe.internal.getFirstIngredient();
+			}
+		};
+
+		private static final RecipeIndex<Recipe> liquidIndex = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.liquid;
+			}
+		};
+
+		private static final RecipeIndex<Recipe> boxIndex = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.box;
+			}
+		};
+
 		@Override
 		public void addCrating(ItemStack itemStack) {
 			ItemStack uncrated = ((forestry.core.items.ItemCrated) itemStack.getItem()).getContained(itemStack);
@@ -173,16 +215,23 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 		}
 
 		public static Recipe findMatchingRecipe(FluidStack liquid, ItemStack item, InventoryCrafting inventorycrafting, World world) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
-				if (recipe.matches(liquid, item, inventorycrafting, world))
+			ItemStack[] crafting = new ItemStack[inventorycrafting.getSizeInventory()];
+			for (int i = 0; i < crafting.length; i++)
+				crafting[i] = inventorycrafting.getStackInSlot(i);
+
+			return findMatchingRecipe(liquid, item, crafting);
+		}
+
+		public static Recipe findMatchingRecipe(FluidStack liquid, ItemStack item, ItemStack[] crafting) {
+			ItemStack[][] resources = ShapedRecipeCustom.getResources(crafting);
+			for (Recipe recipe : index.getCandidates(crafting))
+				if (recipe.matches(liquid, item, resources))
 					return recipe;
-			}
 			return null;
 		}
 
 		public static boolean isResourceLiquid(FluidStack liquid) {
-			for (Recipe recipe : recipes) {
+			for (Recipe recipe : liquidIndex.getCandidates(liquid)) {
 				if (recipe.hasLiquid(liquid))
 					return true;
 			}
@@ -191,7 +240,7 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 		}
 
 		public static boolean isBox(ItemStack resource) {
-			for (Recipe recipe : recipes) {
+			for (Recipe recipe : boxIndex.getCandidates(resource)) {
 				if (StackUtils.isIdenticalItem(recipe.getBox(), resource))
 					return true;
 			}
@@ -219,6 +268,7 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 	private final TileInventoryAdapter accessibleInventory;
 	public MachineCarpenter.Recipe currentRecipe;
 	public MachineCarpenter.Recipe lastRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(false);
 	public ContainerCarpenter activeContainer;
 	private int packageTime;
 	private int totalTime;
@@ -319,8 +369,21 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 		}
 
 		// Reset recipe according to contents
-		ContainerCarpenter container = new ContainerCarpenter(this);
-		setCurrentRecipe(RecipeManager.findMatchingRecipe(resourceTank.getFluid(), getBoxStack(), container.craftMatrix, worldObj));
+		setCurrentRecipe(getMatchingRecipe());
+	}
+
+	private Recipe getMatchingRecipe() {
+		ItemStack[] crafting = craftingInventory.getStacks(SLOT_CRAFTING_1, 9);
+		ItemStack box = getBoxStack();
+		FluidStack liquid = resourceTank.getFluid();
+
+		// The box is part of the inputs the match depends on.
+		ItemStack[] inputs = Arrays.copyOf(crafting, crafting.length + 1);
+		inputs[crafting.length] = box;
+
+		if (recipeCache.isValid(inputs, liquid))
+			return recipeCache.getRecipe();
+		return recipeCache.set(RecipeManager.findMatchingRecipe(liquid, box, crafting), inputs, liquid);
 	}
 
 	public void setCurrentRecipe(MachineCarpenter.Recipe currentRecipe) {
@@ -350,10 +413,8 @@ public class MachineCarpenter extends TilePowered implements ISidedInventory, IL
 		if (worldObj.getTotalWorldTime() % 40 * 10 != 0)
 			return;
 
-		if (currentRecipe == null) {
-			ContainerCarpenter container = new ContainerCarpenter(this);
-			setCurrentRecipe(MachineCarpenter.RecipeManager.findMatchingRecipe(resourceTank.getFluid(), getBoxStack(), container.craftMatrix, worldObj));
-		}
+		if (currentRecipe == null)
+			setCurrentRecipe(getMatchingRecipe());
 
 		if (currentRecipe == null)
 			setErrorState(EnumErrorCode.NORECIPE);
@@ -40,6 +40,8 @@ import forestry.core.gadgets.TilePowered;
 import forestry.core.network.GuiId;
 import forestry.core.triggers.ForestryTrigger;
 import forestry.core.utils.InventoryAdapter;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.StackUtils;
 
 public class MachineCentrifuge extends TilePowered implements ISidedInventory, ISpecialInventory {
@@ -75,6 +77,13 @@ public class MachineCentrifuge extends TilePowered implements ISidedInventory, I
 	public static class RecipeManager implements ICentrifugeManager {
 		public static ArrayList<MachineCentrifuge.Recipe> recipes = new ArrayList<MachineCentrifuge.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.resource;
+			}
+		};
+
 		@Override
 		public void addRecipe(int timePerItem, ItemStack resource, HashMap<ItemStack, Integer> products) {
 			recipes.add(new Recipe(timePerItem, resource, products));
@@ -110,11 +119,9 @@ public class MachineCentrifuge extends TilePowered implements ISidedInventory, I
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack item) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : index.getCandidates(item))
 				if (recipe.matches(item))
 					return recipe;
-			}
 			return null;
 		}
 
@@ -132,6 +139,7 @@ public class MachineCentrifuge extends TilePowered implements ISidedInventory, I
 	/* MEMBER */
 	private final InventoryAdapter inventory = new InventoryAdapter(10, "Items");
 	public MachineCentrifuge.Recipe currentRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(false);
 
 	private final Stack<ItemStack> pendingProducts = new Stack<ItemStack>();
 	private int productionTime;
@@ -250,7 +258,12 @@ public class MachineCentrifuge extends TilePowered implements ISidedInventory, I
 	}
 
 	public void checkRecipe() {
-		Recipe sameRec = RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE));
+		ItemStack resource = inventory.getStackInSlot(SLOT_RESOURCE);
+		Recipe sameRec;
+		if (recipeCache.isValid(resource, null))
+			sameRec = recipeCache.getRecipe();
+		else
+			sameRec = recipeCache.set(RecipeManager.findMatchingRecipe(resource), resource, null);
 
 		if (sameRec == null)
 			setErrorState(EnumErrorCode.NORECIPE);
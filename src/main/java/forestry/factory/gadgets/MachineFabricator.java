@@ -11,6 +11,7 @@
 package forestry.factory.gadgets;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -39,6 +40,8 @@ import forestry.core.interfaces.ILiquidTankContainer;
 import forestry.core.network.GuiId;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.ShapedRecipeCustom;
 import forestry.core.utils.StackUtils;
 
@@ -144,6 +147,35 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 		public static ArrayList<Recipe> recipes = new ArrayList<Recipe>();
 		public static ArrayList<Smelting> smeltings = new ArrayList<Smelting>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				// Any ingredient of the pattern has to be present in the grid, so the first one will do.
+				return recipe.internal.getFirstIngredient();
+			}
+		};
+
+		private static final RecipeIndex<Recipe> planIndex = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.plan;
+			}
+		};
+
+		private static final RecipeIndex<Smelting> smeltingIndex = new RecipeIndex<Smelting>(smeltings) {
+			@Override
+			protected Object getInput(Smelting smelting) {
+				return smelting.resource;
+			}
+		};
+
+		private static final RecipeIndex<Smelting> productIndex = new RecipeIndex<Smelting>(smeltings) {
+			@Override
+			protected Object getInput(Smelting smelting) {
+				return smelting.product;
+			}
+		};
+
 		@Override
 		public void addRecipe(ItemStack plan, FluidStack molten, ItemStack result, Object[] pattern) {
 			recipes.add(new Recipe(plan, molten, ShapedRecipeCustom.createShapedRecipe(result, pattern)));
@@ -155,7 +187,7 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack plan) {
-			for (Recipe recipe : recipes)
+			for (Recipe recipe : planIndex.getCandidates(plan))
 				if (recipe.matches(plan))
 					return recipe;
 
@@ -163,12 +195,9 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack plan, FluidStack liquid, ItemStack[] resources) {
-			ItemStack[][] gridResources = new ItemStack[3][3];
-			for (int i = 0; i < 3; i++)
-				for (int j = 0; j < 3; j++)
-					gridResources[j][i] = resources[i * 3 + j];
+			ItemStack[][] gridResources = ShapedRecipeCustom.getResources(resources);
 
-			for (Recipe recipe : recipes)
+			for (Recipe recipe : index.getCandidates(resources))
 				if (recipe.matches(plan, gridResources))
 					if (recipe.hasLiquid(liquid))
 						return recipe;
@@ -188,7 +217,7 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 			if (resource == null)
 				return null;
 
-			for (Smelting smelting : smeltings)
+			for (Smelting smelting : smeltingIndex.getCandidates(resource))
 				if (smelting.matches(resource))
 					return smelting;
 
@@ -199,7 +228,7 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 			if (product == null)
 				return null;
 
-			for (Smelting smelting : smeltings)
+			for (Smelting smelting : productIndex.getCandidates(product))
 				if (smelting.matches(product))
 					return smelting;
 
@@ -232,6 +261,7 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 	private final InventoryAdapter inventory = new InventoryAdapter(30, "Items");
 	private ForestryTank moltenTank = new ForestryTank(2 * Defaults.BUCKET_VOLUME);
 	private int heat = 0;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(true);
 	private int guiMeltingPoint = 0;
 
 	private FluidStack pendingSmelt;
@@ -373,10 +403,23 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 		return true;
 	}
 
+	private Recipe getMatchingRecipe() {
+		ItemStack plan = inventory.getStackInSlot(SLOT_PLAN);
+		ItemStack[] crafting = inventory.getStacks(SLOT_CRAFTING_1, 9);
+		FluidStack liquid = moltenTank.getFluid();
+
+		// The plan is part of the inputs the match depends on.
+		ItemStack[] inputs = Arrays.copyOf(crafting, crafting.length + 1);
+		inputs[crafting.length] = plan;
+
+		if (recipeCache.isValid(inputs, liquid))
+			return recipeCache.getRecipe();
+		return recipeCache.set(RecipeManager.findMatchingRecipe(plan, liquid, crafting), inputs, liquid);
+	}
+
 	@Override
 	public ItemStack getResult() {
-		Recipe myRecipe = RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_PLAN), moltenTank.getFluid(),
-				inventory.getStacks(SLOT_CRAFTING_1, 9));
+		Recipe myRecipe = getMatchingRecipe();
 
 		if (myRecipe == null)
 			return null;
@@ -389,8 +432,7 @@ public class MachineFabricator extends TilePowered implements ICrafter, ISpecial
 		if(slotIndex != SLOT_RESULT)
 			return null;
 
-		Recipe myRecipe = RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_PLAN), moltenTank.getFluid(),
-				inventory.getStacks(SLOT_CRAFTING_1, 9));
+		Recipe myRecipe = getMatchingRecipe();
 		if (myRecipe == null)
 			return null;
 
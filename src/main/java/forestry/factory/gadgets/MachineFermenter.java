@@ -46,6 +46,8 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 
@@ -118,6 +120,20 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 
 		public static ArrayList<MachineFermenter.Recipe> recipes = new ArrayList<MachineFermenter.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.resource;
+			}
+		};
+
+		private static final RecipeIndex<Recipe> liquidIndex = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.liquid;
+			}
+		};
+
 		@Override
 		public void addRecipe(ItemStack resource, int fermentationValue, float modifier, FluidStack output, FluidStack liquid) {
 			recipes.add(new Recipe(resource, fermentationValue, modifier, output, liquid));
@@ -129,17 +145,17 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack res, FluidStack liqu) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			if (res == null)
+				return null;
+
+			for (Recipe recipe : index.getCandidates(res))
 				if (recipe.matches(res, liqu))
 					return recipe;
-			}
 			return null;
 		}
 
 		public static boolean isResource(ItemStack resource) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : index.getCandidates(resource)) {
 				if (recipe.resource.getItemDamage() == Defaults.WILDCARD
 						&& recipe.resource.getItem() == resource.getItem()) {
 					return true;
@@ -151,8 +167,7 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 		}
 
 		public static boolean isLiquidResource(FluidStack liquid) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : liquidIndex.getCandidates(liquid)) {
 				if (recipe.liquid.isFluidEqual(liquid))
 					return true;
 			}
@@ -185,6 +200,7 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 	public ForestryTank productTank = new ForestryTank(Defaults.PROCESSOR_TANK_CAPACITY);
 	private final InventoryAdapter inventory = new InventoryAdapter(5, "Items");
 	private Recipe currentRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(true);
 	private float currentResourceModifier;
 	public int fermentationTime = 0;
 	public int fermentationTotalTime = 0;
@@ -284,7 +300,7 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 		if (worldObj.getTotalWorldTime() % 20 * 10 != 0)
 			return;
 
-		if (RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) != null)
+		if (getMatchingRecipe() != null)
 			setErrorState(EnumErrorCode.OK);
 		else if (inventory.getStackInSlot(SLOT_FUEL) == null && fuelBurnTime <= 0)
 			setErrorState(EnumErrorCode.NOFUEL);
@@ -368,8 +384,16 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 		}
 	}
 
+	private Recipe getMatchingRecipe() {
+		ItemStack resource = inventory.getStackInSlot(SLOT_RESOURCE);
+		FluidStack liquid = resourceTank.getFluid();
+		if (recipeCache.isValid(resource, liquid))
+			return recipeCache.getRecipe();
+		return recipeCache.set(RecipeManager.findMatchingRecipe(resource, liquid), resource, liquid);
+	}
+
 	private void checkRecipe() {
-		Recipe sameRec = RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid());
+		Recipe sameRec = getMatchingRecipe();
 
 		if (currentRecipe != sameRec)
 			currentRecipe = sameRec;
@@ -422,7 +446,7 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 	@Override
 	public boolean isWorking() {
 		if (currentRecipe == null
-				&& RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) == null)
+				&& getMatchingRecipe() == null)
 			return false;
 		if (fuelBurnTime > 0)
 			return resourceTank.getFluidAmount() > 0 && productTank.getFluidAmount() < Defaults.PROCESSOR_TANK_CAPACITY;
@@ -451,13 +475,13 @@ public class MachineFermenter extends TilePowered implements ISidedInventory, IL
 		if (this.getFuelStack() == null && fuelBurnTime <= 0)
 			return false;
 		else if (fuelBurnTime <= 0)
-			if (RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) == null)
+			if (getMatchingRecipe() == null)
 				return false;
 
 		if (this.getFermentationStack() == null && fermentationTime <= 0)
 			return false;
 		else if (fermentationTime <= 0)
-			if (RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE), resourceTank.getFluid()) == null)
+			if (getMatchingRecipe() == null)
 				return false;
 
 		if (resourceTank.getFluidAmount() <= 0)
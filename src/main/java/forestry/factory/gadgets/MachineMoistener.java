@@ -46,6 +46,8 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 
@@ -89,6 +91,13 @@ public class MachineMoistener extends TilePowered implements ISpecialInventory,
 	public static class RecipeManager implements IMoistenerManager {
 		public static ArrayList<MachineMoistener.Recipe> recipes = new ArrayList<MachineMoistener.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.resource;
+			}
+		};
+
 		@Override
 		public void addRecipe(ItemStack resource, ItemStack product, int timePerItem) {
 			recipes.add(new MachineMoistener.Recipe(resource, product, timePerItem));
@@ -98,7 +107,7 @@ public class MachineMoistener extends TilePowered implements ISpecialInventory,
 			if(resource == null)
 				return false;
 
-			for(Recipe rec : recipes) {
+			for(Recipe rec : index.getCandidates(resource)) {
 				if(StackUtils.isIdenticalItem(resource, rec.resource))
 					return true;
 			}
@@ -107,11 +116,9 @@ public class MachineMoistener extends TilePowered implements ISpecialInventory,
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack item) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : index.getCandidates(item))
 				if (recipe.matches(item))
 					return recipe;
-			}
 			return null;
 		}
 
@@ -131,6 +138,7 @@ public class MachineMoistener extends TilePowered implements ISpecialInventory,
 	private final InventoryAdapter inventory = new InventoryAdapter(12, "Items");
 	//private ItemStack[] inventoryStacks = new ItemStack[12];
 	public MachineMoistener.Recipe currentRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(false);
 
 	public int burnTime = 0;
 	public int totalTime = 0;
@@ -302,7 +310,12 @@ public class MachineMoistener extends TilePowered implements ISpecialInventory,
 	}
 
 	public void checkRecipe() {
-		Recipe sameRec = RecipeManager.findMatchingRecipe(inventory.getStackInSlot(SLOT_RESOURCE));
+		ItemStack resource = inventory.getStackInSlot(SLOT_RESOURCE);
+		Recipe sameRec;
+		if (recipeCache.isValid(resource, null))
+			sameRec = recipeCache.getRecipe();
+		else
+			sameRec = recipeCache.set(RecipeManager.findMatchingRecipe(resource), resource, null);
 		if (currentRecipe != sameRec) {
 			currentRecipe = sameRec;
 			resetRecipe();
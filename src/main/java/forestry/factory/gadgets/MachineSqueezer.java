@@ -47,6 +47,8 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
+import forestry.core.utils.RecipeMatchCache;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 
@@ -105,6 +107,14 @@ public class MachineSqueezer extends TilePowered implements ISpecialInventory, I
 	public static class RecipeManager implements ISqueezerManager {
 		public static ArrayList<MachineSqueezer.Recipe> recipes = new ArrayList<MachineSqueezer.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				// Every resource is required, so the first one is enough to find the recipe by.
+				return recipe.resources.length > 0 ? recipe.resources[0] : null;
+			}
+		};
+
 		@Override
 		public void addRecipe(int timePerItem, ItemStack[] resources, FluidStack liquid, ItemStack remnants, int chance) {
 			recipes.add(new MachineSqueezer.Recipe(timePerItem, resources, liquid, remnants, chance));
@@ -116,11 +126,12 @@ public class MachineSqueezer extends TilePowered implements ISpecialInventory, I
 		}
 
 		public static Recipe findMatchingRecipe(ItemStack[] items) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			if (items == null)
+				return null;
+
+			for (Recipe recipe : index.getCandidates(items))
 				if (recipe.matches(items))
 					return recipe;
-			}
 
 			return null;
 		}
@@ -142,6 +153,7 @@ public class MachineSqueezer extends TilePowered implements ISpecialInventory, I
 
 	private final InventoryAdapter inventory = new InventoryAdapter(12, "Items");
 	private Recipe currentRecipe;
+	private final RecipeMatchCache<Recipe> recipeCache = new RecipeMatchCache<Recipe>(true);
 
 	private final Stack<FluidStack> pendingLiquids = new Stack<FluidStack>();
 	private final Stack<ItemStack> pendingRemnants = new Stack<ItemStack>();
@@ -307,7 +319,12 @@ public class MachineSqueezer extends TilePowered implements ISpecialInventory, I
 	}
 
 	private void checkRecipe() {
-		Recipe sameRec = RecipeManager.findMatchingRecipe(inventory.getStacks(SLOT_RESOURCE_1, 9));
+		ItemStack[] resources = inventory.getStacks(SLOT_RESOURCE_1, 9);
+		Recipe sameRec;
+		if (recipeCache.isValid(resources, null))
+			sameRec = recipeCache.getRecipe();
+		else
+			sameRec = recipeCache.set(RecipeManager.findMatchingRecipe(resources), resources, null);
 
 		if (sameRec == null)
 			setErrorState(EnumErrorCode.NORECIPE);
@@ -45,6 +45,7 @@ import forestry.core.utils.EnumTankLevel;
 import forestry.core.utils.ForestryTank;
 import forestry.core.utils.InventoryAdapter;
 import forestry.core.utils.LiquidHelper;
+import forestry.core.utils.RecipeIndex;
 import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 
@@ -85,17 +86,22 @@ public class MachineStill extends TilePowered implements ISpecialInventory, ISid
 	public static class RecipeManager implements IStillManager {
 		public static ArrayList<MachineStill.Recipe> recipes = new ArrayList<MachineStill.Recipe>();
 
+		private static final RecipeIndex<Recipe> index = new RecipeIndex<Recipe>(recipes) {
+			@Override
+			protected Object getInput(Recipe recipe) {
+				return recipe.input;
+			}
+		};
+
 		@Override
 		public void addRecipe(int timePerUnit, FluidStack input, FluidStack output) {
 			recipes.add(new MachineStill.Recipe(timePerUnit, input, output));
 		}
 
 		public static Recipe findMatchingRecipe(FluidStack item) {
-			for (int i = 0; i < recipes.size(); i++) {
-				Recipe recipe = recipes.get(i);
+			for (Recipe recipe : index.getCandidates(item))
 				if (recipe.matches(item))
 					return recipe;
-			}
 			return null;
 		}
 
@@ -28,6 +28,7 @@ import forestry.api.core.ITileStructure;
 import forestry.api.farming.Farmables;
 import forestry.api.farming.IFarmComponent;
 import forestry.api.farming.IFarmListener;
+import forestry.core.gadgets.StructureLogic;
 import forestry.core.gadgets.TileForestry;
 import forestry.core.network.GuiId;
 import forestry.core.network.PacketPayload;
@@ -184,14 +185,32 @@ public abstract class TileFarm extends TileForestry implements IFarmComponent {
 				isInited = true;
 			}
 
-			// Periodic validation if needed
-			if (worldObj.getTotalWorldTime() % 200 == 0 && (!isIntegratedIntoStructure() || isMaster()))
-				validateStructure();
+			// Validation after block changes within the structure, with a staggered periodic check as fallback
+			if (!isIntegratedIntoStructure() || isMaster()) {
+				if (structureLogic instanceof StructureLogic)
+					((StructureLogic) structureLogic).updateValidation();
+				else if (worldObj.getTotalWorldTime() % 200 == 0)
+					validateStructure();
+			}
 
 			updateServerSide();
 		}
 	}
 
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (structureLogic instanceof StructureLogic)
+			((StructureLogic) structureLogic).onUnload();
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		if (structureLogic instanceof StructureLogic)
+			((StructureLogic) structureLogic).onUnload();
+	}
+
 	protected void updateServerSide() {
 	}
 
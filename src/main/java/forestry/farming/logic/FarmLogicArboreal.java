@@ -138,9 +138,23 @@ public class FarmLogicArboreal extends FarmLogicHomogenous {
 		return crops;
 	}
 
+	private final HarvestPlanner planner = new HarvestPlanner(false);
+	private IFarmable harvestGermling;
+
+	private final HarvestPlanner.IHarvestVisitor harvestVisitor = new HarvestPlanner.IHarvestVisitor() {
+		@Override
+		public boolean visit(HarvestPlanner planner, int x, int y, int z, Stack<ICrop> crops) {
+			ICrop crop = harvestGermling.getCropAt(world, x, y, z);
+			if (crop == null)
+				return false;
+
+			crops.push(crop);
+			return true;
+		}
+	};
+
 	private Collection<ICrop> getHarvestBlocks(Vect position) {
 
-		ArrayList<Vect> seen = new ArrayList<Vect>();
 		Stack<ICrop> crops = new Stack<ICrop>();
 
 		// Determine what type we want to harvest.
@@ -151,7 +165,6 @@ public class FarmLogicArboreal extends FarmLogicHomogenous {
 				continue;
 
 			crops.push(crop);
-			seen.add(position);
 			germling = germl;
 			break;
 		}
@@ -159,59 +172,15 @@ public class FarmLogicArboreal extends FarmLogicHomogenous {
 		if (germling == null)
 			return crops;
 
-		ArrayList<Vect> candidates = processHarvestBlock(germling, crops, seen, position, position);
-		ArrayList<Vect> temp = new ArrayList<Vect>();
-		while (!candidates.isEmpty()) {
-			for (Vect candidate : candidates)
-				temp.addAll(processHarvestBlock(germling, crops, seen, position, candidate));
-			candidates.clear();
-			candidates.addAll(temp);
-			temp.clear();
-		}
+		harvestGermling = germling;
+		planner.plan(world, position.x, position.y, position.z, yOffset, 5, Integer.MAX_VALUE, harvestVisitor, crops);
+		harvestGermling = null;
 
 		return crops;
 	}
 
 	protected int yOffset = 0;
 
-	private ArrayList<Vect> processHarvestBlock(IFarmable germling, Stack<ICrop> crops, Collection<Vect> seen, Vect start, Vect position) {
-
-		ArrayList<Vect> candidates = new ArrayList<Vect>();
-
-		// Get additional candidates to return
-		for (int i = -1; i < 2; i++)
-			for (int j = yOffset; j < 2; j++)
-				for (int k = -1; k < 2; k++) {
-					Vect candidate = new Vect(position.x + i, position.y + j, position.z + k);
-					if (candidate.equals(position))
-						continue;
-					if (Math.abs(candidate.x - start.x) > 5)
-						continue;
-					if (Math.abs(candidate.z - start.z) > 5)
-						continue;
-
-					// See whether the given position has already been processed
-					boolean skip = false;
-					for (Vect prcs : seen)
-						if (candidate.equals(prcs)) {
-							skip = true;
-							break;
-						}
-
-					if (skip)
-						continue;
-
-					ICrop crop = germling.getCropAt(world, candidate.x, candidate.y, candidate.z);
-					if (crop != null) {
-						crops.push(crop);
-						candidates.add(candidate);
-						seen.add(candidate);
-					}
-				}
-
-		return candidates;
-	}
-
 	@Override
 	protected boolean maintainGermlings(int x, int ySaplings, int z, ForgeDirection direction, int extent) {
 
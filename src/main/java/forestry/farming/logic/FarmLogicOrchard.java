@@ -10,7 +10,6 @@
  ******************************************************************************/
 package forestry.farming.logic;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Stack;
@@ -105,75 +104,40 @@ public class FarmLogicOrchard extends FarmLogic {
 		return crops;
 	}
 
+	private final HarvestPlanner planner = new HarvestPlanner(true);
+
+	private final HarvestPlanner.IHarvestVisitor harvestVisitor = new HarvestPlanner.IHarvestVisitor() {
+		@Override
+		public boolean visit(HarvestPlanner planner, int x, int y, int z, Stack<ICrop> crops) {
+			IFruitBearer bearer = getFruitBlock(x, y, z);
+			if (bearer != null && bearer.hasFruit()) {
+				if (bearer.getRipeness() >= 0.9f)
+					crops.push(new CropFruit(world, new Vect(x, y, z), bearer.getFruitFamily()));
+				return true;
+			}
+
+			return planner.getBlock(x, y, z).isWood(world, x, y, z);
+		}
+	};
+
 	private Collection<ICrop> getHarvestBlocks(Vect position) {
 
-		ArrayList<Vect> seen = new ArrayList<Vect>();
 		Stack<ICrop> crops = new Stack<ICrop>();
 
 		// Determine what type we want to harvest.
-		IFruitBearer bearer = getFruitBlock(position);
+		IFruitBearer bearer = getFruitBlock(position.x, position.y, position.z);
 		Block block = getBlock(position);
 		if ((!block.isWood(world, position.x, position.y, position.z)) && bearer == null)
 			return crops;
 
-		ArrayList<Vect> candidates = processHarvestBlock(crops, seen, position, position);
-		ArrayList<Vect> temp = new ArrayList<Vect>();
-		while (!candidates.isEmpty() && crops.size() < 20) {
-			for (Vect candidate : candidates)
-				temp.addAll(processHarvestBlock(crops, seen, position, candidate));
-			candidates.clear();
-			candidates.addAll(temp);
-			temp.clear();
-		}
-		// Proxies.log.finest("Logic at %s/%s/%s has seen %s blocks.", position.x, position.y, position.z, seen.size());
+		planner.plan(world, position.x, position.y, position.z, 0, 5, 20, harvestVisitor, crops);
+		// Proxies.log.finest("Logic at %s/%s/%s has found %s crops.", position.x, position.y, position.z, crops.size());
 
 		return crops;
 	}
 
-	private ArrayList<Vect> processHarvestBlock(Stack<ICrop> crops, Collection<Vect> seen, Vect start, Vect position) {
-
-		ArrayList<Vect> candidates = new ArrayList<Vect>();
-
-		// Get additional candidates to return
-		for (int i = -1; i < 2; i++)
-			for (int j = 0; j < 2; j++)
-				for (int k = -1; k < 2; k++) {
-					Vect candidate = new Vect(position.x + i, position.y + j, position.z + k);
-					if (candidate.equals(position))
-						continue;
-					if (Math.abs(candidate.x - start.x) > 5)
-						continue;
-					if (Math.abs(candidate.z - start.z) > 5)
-						continue;
-
-					// See whether the given position has already been processed
-					boolean skip = false;
-					for (Vect prcs : seen)
-						if (candidate.equals(prcs)) {
-							skip = true;
-							break;
-						}
-
-					if (skip)
-						continue;
-
-					IFruitBearer bearer = getFruitBlock(candidate);
-					if (bearer != null && bearer.hasFruit()) {
-						if (bearer.getRipeness() >= 0.9f)
-							crops.push(new CropFruit(world, candidate, bearer.getFruitFamily()));
-						candidates.add(candidate);
-						seen.add(candidate);
-					} else if (this.isWoodBlock(candidate)) {
-						candidates.add(candidate);
-						seen.add(candidate);
-					}
-				}
-
-		return candidates;
-	}
-
-	private IFruitBearer getFruitBlock(Vect position) {
-		TileEntity tile = world.getTileEntity(position.x, position.y, position.z);
+	private IFruitBearer getFruitBlock(int x, int y, int z) {
+		TileEntity tile = world.getTileEntity(x, y, z);
 		if (!(tile instanceof IFruitBearer))
 			return null;
 
@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.farming.logic;
+
+import java.util.Stack;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import forestry.api.farming.ICrop;
+import forestry.core.utils.LongHashSet;
+
+/**
+ * Flood fills the blocks of a tree for harvesting.
+ *
+ * Visited positions are kept as packed coordinates and the work queue is reused
+ * between passes, so a pass allocates nothing but the crops it finds. The crops
+ * are pushed onto a stack which the farm then culls one per work cycle.
+ */
+public class HarvestPlanner {
+
+	public interface IHarvestVisitor {
+		/**
+		 * Called once for every position the search reaches. May push crops onto the plan.
+		 * 
+		 * @return true if the search should continue from this position.
+		 */
+		boolean visit(HarvestPlanner planner, int x, int y, int z, Stack<ICrop> crops);
+	}
+
+	private final LongHashSet seen = new LongHashSet(256);
+	private final boolean cacheChunks;
+	private long[] queue = new long[64];
+	private int head;
+	private int tail;
+
+	private World world;
+	private Chunk chunk;
+
+	/**
+	 * @param cacheChunks Whether block reads should go through the last used chunk instead of the world.
+	 */
+	public HarvestPlanner(boolean cacheChunks) {
+		this.cacheChunks = cacheChunks;
+	}
+
+	/**
+	 * Searches outwards from the given start position, which the caller has already checked.
+	 * 
+	 * @param minYOffset Lowest vertical offset of a neighbour, 0 or below.
+	 * @param radius Maximum horizontal distance from the start position.
+	 * @param maxCrops The search stops after the first ring which brought the plan to this size.
+	 */
+	public void plan(World world, int startX, int startY, int startZ, int minYOffset, int radius, int maxCrops, IHarvestVisitor visitor, Stack<ICrop> crops) {
+		this.world = world;
+		seen.clear();
+		head = 0;
+		tail = 0;
+
+		long start = LongHashSet.packCoords(startX, startY, startZ);
+		seen.add(start);
+		enqueue(start);
+
+		int ringEnd = tail;
+		while (head < tail) {
+			if (head == ringEnd) {
+				if (crops.size() >= maxCrops)
+					break;
+				ringEnd = tail;
+			}
+
+			long position = queue[head++];
+			int x = LongHashSet.unpackX(position);
+			int y = LongHashSet.unpackY(position);
+			int z = LongHashSet.unpackZ(position);
+
+			for (int i = -1; i < 2; i++) {
+				if (Math.abs(x + i - startX) > radius)
+					continue;
+
+				for (int j = minYOffset; j < 2; j++)
+					for (int k = -1; k < 2; k++) {
+						if (i == 0 && j == 0 && k == 0)
+							continue;
+						if (Math.abs(z + k - startZ) > radius)
+							continue;
+
+						long candidate = LongHashSet.packCoords(x + i, y + j, z + k);
+						// Positions are only ever visited once, the world does not change during a pass.
+						if (!seen.add(candidate))
+							continue;
+
+						if (visitor.visit(this, x + i, y + j, z + k, crops))
+							enqueue(candidate);
+					}
+			}
+		}
+
+		this.world = null;
+		this.chunk = null;
+	}
+
+	/**
+	 * @return The block at the given position, read through the cached chunk if enabled.
+	 */
+	public Block getBlock(int x, int y, int z) {
+		if (!cacheChunks)
+			return world.getBlock(x, y, z);
+		if (y < 0 || y >= 256)
+			return Blocks.air;
+
+		int chunkX = x >> 4;
+		int chunkZ = z >> 4;
+		if (chunk == null || chunk.xPosition != chunkX || chunk.zPosition != chunkZ)
+			chunk = world.getChunkFromChunkCoords(chunkX, chunkZ);
+
+		return chunk.getBlock(x & 15, y, z & 15);
+	}
+
+	private void enqueue(long position) {
+		if (tail == queue.length) {
+			long[] grown = new long[queue.length * 2];
+			System.arraycopy(queue, 0, grown, 0, tail);
+			queue = grown;
+		}
+		queue[tail++] = position;
+	}
+}
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.lepidopterology;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+
+import forestry.core.utils.WorldAccessAdapter;
+import forestry.lepidopterology.entities.EntityButterfly;
+import forestry.plugins.PluginLepidopterology;
+
+/**
+ * Keeps track of the butterflies in a world, both in total and per region of
+ * {@link #REGION_SIZE} x {@link #REGION_SIZE} chunks. Counts are maintained as
+ * butterflies enter and leave the world and as they fly into another chunk, so
+ * querying them is O(1).
+ */
+public class ButterflyPopulation extends WorldAccessAdapter {
+
+	public static final int REGION_SIZE = 4;
+	private static final int REGION_SHIFT = 6; // 4 chunks * 16 blocks
+
+	private static final Map<World, ButterflyPopulation> populations = new WeakHashMap<World, ButterflyPopulation>();
+
+	private int count;
+	private final Map<Long, Integer> regionCounts = new HashMap<Long, Integer>();
+	private final Map<Integer, Long> entityRegions = new HashMap<Integer, Long>();
+
+	public static void attach(World world) {
+		if (world.isRemote || populations.containsKey(world))
+			return;
+
+		ButterflyPopulation population = new ButterflyPopulation();
+		populations.put(world, population);
+		world.addWorldAccess(population);
+	}
+
+	public static void detach(World world) {
+		ButterflyPopulation population = populations.remove(world);
+		if (population != null)
+			world.removeWorldAccess(population);
+	}
+
+	/**
+	 * @return Population of the given world, null if the world is not tracked.
+	 */
+	public static ButterflyPopulation get(World world) {
+		return populations.get(world);
+	}
+
+	/**
+	 * @return Number of butterflies currently in the world.
+	 */
+	public static int getCount(World world) {
+		ButterflyPopulation population = get(world);
+		if (population == null)
+			return world.countEntities(EntityButterfly.class);
+		return population.getCount();
+	}
+
+	/**
+	 * @return true if the number of butterflies in the world is below the given limit and the region around x/z is below the configured region limit.
+	 */
+	public static boolean canSpawn(World world, int x, int z, int worldLimit) {
+		if (getCount(world) > worldLimit)
+			return false;
+
+		ButterflyPopulation population = get(world);
+		return population == null || population.getRegionCount(x, z) < PluginLepidopterology.regionConstraint;
+	}
+
+	/* COUNTS */
+	public int getCount() {
+		return count;
+	}
+
+	public int getRegionCount(int x, int z) {
+		Integer regionCount = regionCounts.get(getRegionKey(x, z));
+		return regionCount != null ? regionCount : 0;
+	}
+
+	private static long getRegionKey(int x, int z) {
+		return ((long) (x >> REGION_SHIFT) << 32) | ((z >> REGION_SHIFT) & 0xffffffffL);
+	}
+
+	private static long getRegionKey(Entity entity) {
+		return getRegionKey(MathHelper.floor_double(entity.posX), MathHelper.floor_double(entity.posZ));
+	}
+
+	private void increment(long region) {
+		Integer regionCount = regionCounts.get(region);
+		regionCounts.put(region, regionCount != null ? regionCount + 1 : 1);
+	}
+
+	private void decrement(long region) {
+		Integer regionCount = regionCounts.get(region);
+		if (regionCount == null || regionCount <= 1)
+			regionCounts.remove(region);
+		else
+			regionCounts.put(region, regionCount - 1);
+	}
+
+	/**
+	 * Moves a butterfly to the region it is in now. Called by butterflies when they enter another chunk.
+	 */
+	public void onEntityMove(EntityButterfly entity) {
+		Long region = entityRegions.get(entity.getEntityId());
+		if (region == null)
+			return;
+
+		long current = getRegionKey(entity);
+		if (current == region)
+			return;
+
+		entityRegions.put(entity.getEntityId(), current);
+		decrement(region);
+		increment(current);
+	}
+
+	/* IWORLDACCESS */
+	@Override
+	public void onEntityCreate(Entity entity) {
+		if (!(entity instanceof EntityButterfly))
+			return;
+		if (entityRegions.containsKey(entity.getEntityId()))
+			return;
+
+		long region = getRegionKey(entity);
+		entityRegions.put(entity.getEntityId(), region);
+		increment(region);
+		count++;
+	}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {
+		if (!(entity instanceof EntityButterfly))
+			return;
+
+		Long region = entityRegions.remove(entity.getEntityId());
+		if (region == null)
+			return;
+
+		decrement(region);
+		count--;
+	}
+
+}
@@ -16,7 +16,6 @@ import forestry.api.arboriculture.ILeafTickHandler;
 import forestry.api.arboriculture.ITree;
 import forestry.api.lepidopterology.IButterfly;
 import forestry.core.proxy.Proxies;
-import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.plugins.PluginLepidopterology;
 
 public class ButterflySpawner implements ILeafTickHandler {
@@ -31,7 +30,7 @@ public class ButterflySpawner implements ILeafTickHandler {
 		if(world.rand.nextFloat() >= spawn.getGenome().getPrimary().getRarity() * 0.5f)
 			return false;
 		
-		if(world.countEntities(EntityButterfly.class) > PluginLepidopterology.spawnConstraint)
+		if(!ButterflyPopulation.canSpawn(world, x, z, PluginLepidopterology.spawnConstraint))
 			return false;
 		
 		if(!spawn.canSpawn(world, x, y, z))
@@ -10,10 +10,6 @@
  ******************************************************************************/
 package forestry.lepidopterology.entities;
 
-import java.util.Map;
-
-import net.minecraft.init.Blocks;
-import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ChunkCoordinates;
 
@@ -22,8 +18,8 @@ import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IIndividual;
 import forestry.api.genetics.IPollinatable;
 import forestry.api.lepidopterology.IButterflyNursery;
+import forestry.core.genetics.ErsatzIndex;
 import forestry.core.proxy.Proxies;
-import forestry.core.utils.StackUtils;
 import forestry.core.utils.Utils;
 import forestry.lepidopterology.entities.EntityButterfly.EnumButterflyState;
 
@@ -70,19 +66,11 @@ public class AIButterflyInteract extends AIButterflyBase {
 		if(tile instanceof IButterflyNursery)
 			nursery = (IButterflyNursery)tile;
 		else {
-			for (Map.Entry<ItemStack, IIndividual> entry : AlleleManager.ersatzSpecimen.entrySet()) {
-
-				if (!StackUtils.equals(entity.worldObj.getBlock(rest.posX, rest.posY, rest.posZ), entry.getKey()))
-					continue;
-
-				int meta = entity.worldObj.getBlockMetadata(rest.posX, rest.posY, rest.posZ);
-				if (StackUtils.equals(Blocks.leaves, entry.getKey()))
-					meta = meta & 3;
-				if (entry.getKey().getItemDamage() != meta)
-					continue;
-
+			IIndividual specimen = ErsatzIndex.getSpecimen(entity.worldObj.getBlock(rest.posX, rest.posY, rest.posZ),
+					entity.worldObj.getBlockMetadata(rest.posX, rest.posY, rest.posZ));
+			if (specimen != null) {
 				// We matched, replace the leaf block with ours and set the ersatz genome
-				((ITreeRoot)AlleleManager.alleleRegistry.getSpeciesRoot("rootTrees")).setLeaves(entity.worldObj, entry.getValue(), null, rest.posX, rest.posY, rest.posZ);
+				((ITreeRoot)AlleleManager.alleleRegistry.getSpeciesRoot("rootTrees")).setLeaves(entity.worldObj, specimen, null, rest.posX, rest.posY, rest.posZ);
 				// Now let's pollinate
 				nursery = (IButterflyNursery)entity.worldObj.getTileEntity(rest.posX, rest.posY, rest.posZ);
 			}
@@ -36,6 +36,7 @@ import forestry.api.lepidopterology.IButterfly;
 import forestry.api.lepidopterology.IEntityButterfly;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.StackUtils;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.genetics.Butterfly;
 import forestry.lepidopterology.render.ButterflyItemRenderer;
 import forestry.plugins.PluginLepidopterology;
@@ -92,6 +93,8 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 	private String mothTexture;
 
 	private long lastUpdate;
+	private int lastChunkX;
+	private int lastChunkZ;
 
 	public int cooldownPollination = 0;
 	public int cooldownEgg = 0;
@@ -346,6 +349,13 @@ public class EntityButterfly extends EntityCreature implements IEntityButterfly
 				}
 			}
 			state = EnumButterflyState.VALUES[dataWatcher.getWatchableObjectByte(DATAWATCHER_ID_STATE)];
+		} else if (chunkCoordX != lastChunkX || chunkCoordZ != lastChunkZ) {
+			// Keep the region counts current as the butterfly wanders off.
+			lastChunkX = chunkCoordX;
+			lastChunkZ = chunkCoordZ;
+			ButterflyPopulation population = ButterflyPopulation.get(worldObj);
+			if (population != null)
+				population.onEntityMove(this);
 		}
 
 		motionY *= 0.6000000238418579d;
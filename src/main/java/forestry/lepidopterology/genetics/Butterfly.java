@@ -231,7 +231,7 @@ public class Butterfly extends IndividualLiving implements IButterfly {
 			genome1 = genomeOne;
 		}
 
-		for (IButterflyMutation mutation : PluginLepidopterology.butterflyInterface.getMutations(true)) {
+		for (IButterflyMutation mutation : ButterflyHelper.getMutations(allele0, allele1, world.rand)) {
 			float chance = 0;
 
 			if ((chance = mutation.getChance(nursery, allele0, allele1, genome0, genome1)) > 0)
@@ -13,7 +13,9 @@ package forestry.lepidopterology.genetics;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Random;
 
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.item.Item;
@@ -37,6 +39,7 @@ import forestry.api.lepidopterology.IButterflyMutation;
 import forestry.api.lepidopterology.IButterflyRoot;
 import forestry.api.lepidopterology.ILepidopteristTracker;
 import forestry.core.config.ForestryItem;
+import forestry.core.genetics.MutationIndex;
 import forestry.core.genetics.SpeciesRoot;
 import forestry.core.utils.Utils;
 import forestry.lepidopterology.entities.EntityButterfly;
@@ -196,6 +199,7 @@ public class ButterflyHelper extends SpeciesRoot implements IButterflyRoot {
 
 	/* MUTATIONS */
 	private static ArrayList<IButterflyMutation> butterflyMutations = new ArrayList<IButterflyMutation>();
+	private static final MutationIndex<IButterflyMutation> mutationIndex = new MutationIndex<IButterflyMutation>();
 
 	@Override
 	public void registerMutation(IMutation mutation) {
@@ -207,6 +211,19 @@ public class ButterflyHelper extends SpeciesRoot implements IButterflyRoot {
 			return;
 
 		butterflyMutations.add((IButterflyMutation)mutation);
+		mutationIndex.register((IButterflyMutation) mutation);
+	}
+
+	@Override
+	protected MutationIndex<IButterflyMutation> getMutationIndex() {
+		return mutationIndex;
+	}
+
+	/**
+	 * @return Mutations which have the given alleles as parents, in random order.
+	 */
+	public static List<IButterflyMutation> getMutations(IAllele allele0, IAllele allele1, Random rand) {
+		return mutationIndex.getMutations(allele0, allele1, rand);
 	}
 
 	@Override
@@ -26,7 +26,6 @@ import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
 import forestry.api.core.Tabs;
-import forestry.api.genetics.AlleleManager;
 import forestry.api.genetics.IAlleleSpecies;
 import forestry.api.genetics.IIndividual;
 import forestry.api.lepidopterology.EnumFlutterType;
@@ -38,6 +37,7 @@ import forestry.core.network.PacketFXSignal;
 import forestry.core.proxy.Proxies;
 import forestry.core.render.TextureManager;
 import forestry.core.utils.Utils;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.plugins.PluginLepidopterology;
 
@@ -72,7 +72,7 @@ public class ItemButterflyGE extends ItemGE {
 		if (itemstack.getTagCompound() == null)
 			return "???";
 
-		IButterfly butterfly = PluginLepidopterology.butterflyInterface.getMember(itemstack);
+		IIndividual butterfly = getCachedIndividual(itemstack);
 		if(butterfly == null)
 			return "???";
 
@@ -112,7 +112,7 @@ public class ItemButterflyGE extends ItemGE {
 		if(!butterfly.canTakeFlight(entityItem.worldObj, entityItem.posX, entityItem.posY, entityItem.posZ))
 			return false;
 
-		if(entityItem.worldObj.countEntities(EntityButterfly.class) > PluginLepidopterology.entityConstraint)
+		if(ButterflyPopulation.getCount(entityItem.worldObj) > PluginLepidopterology.entityConstraint)
 			return false;
 
 		if(Utils.spawnEntity(entityItem.worldObj, new EntityButterfly(entityItem.worldObj, butterfly), entityItem.posX, entityItem.posY, entityItem.posZ) != null) {
@@ -132,7 +132,11 @@ public class ItemButterflyGE extends ItemGE {
 		if (!itemstack.hasTagCompound())
 			return super.getColorFromItemStack(itemstack, renderPass);
 
-		return getColourFromSpecies(AlleleManager.alleleRegistry.getIndividual(itemstack).getGenome().getPrimary(), renderPass);
+		IIndividual butterfly = getCachedIndividual(itemstack);
+		if (butterfly == null)
+			return super.getColorFromItemStack(itemstack, renderPass);
+
+		return getColourFromSpecies(butterfly.getGenome().getPrimary(), renderPass);
 	}
 
 	@Override
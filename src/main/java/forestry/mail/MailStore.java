@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.mail;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+
+import forestry.core.proxy.Proxies;
+
+/**
+ * Holds all trade stations and po boxes of a world in a single save file.
+ *
+ * Everything is indexed by address in memory, so a lookup which misses never
+ * goes to disk. Only entries which changed since the last save are serialized
+ * again. Stations and boxes from the old per-address files are taken over the
+ * first time the store is created.
+ */
+public class MailStore extends WorldSavedData {
+
+	public static final String SAVE_NAME = "ForestryMailStore";
+
+	private final Map<String, TradeStation> tradeStations = new LinkedHashMap<String, TradeStation>();
+	private final Map<String, POBox> poBoxes = new HashMap<String, POBox>();
+	private final Map<WorldSavedData, NBTTagCompound> serialized = new HashMap<WorldSavedData, NBTTagCompound>();
+
+	public MailStore(String s) {
+		super(s);
+	}
+
+	public MailStore() {
+		super(SAVE_NAME);
+	}
+
+	/* TRADE STATIONS */
+	public TradeStation getTradeStation(String address) {
+		return tradeStations.get(address);
+	}
+
+	public Collection<TradeStation> getTradeStations() {
+		return Collections.unmodifiableCollection(tradeStations.values());
+	}
+
+	public void putTradeStation(String address, TradeStation trade) {
+		tradeStations.put(address, trade);
+		markDirty();
+	}
+
+	public void removeTradeStation(String address) {
+		TradeStation trade = tradeStations.remove(address);
+		if (trade != null) {
+			serialized.remove(trade);
+			markDirty();
+		}
+	}
+
+	/* PO BOXES */
+	public POBox getPOBox(String address) {
+		return poBoxes.get(address);
+	}
+
+	public void putPOBox(String address, POBox pobox) {
+		poBoxes.put(address, pobox);
+		markDirty();
+	}
+
+	/* SAVING */
+	@Override
+	public boolean isDirty() {
+		if (super.isDirty())
+			return true;
+
+		for (TradeStation trade : tradeStations.values())
+			if (trade.isDirty())
+				return true;
+		for (POBox pobox : poBoxes.values())
+			if (pobox.isDirty())
+				return true;
+
+		return false;
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbttagcompound) {
+		NBTTagList list = nbttagcompound.getTagList("TradeStations", 10);
+		for (int i = 0; i < list.tagCount(); i++) {
+			NBTTagCompound entry = list.getCompoundTagAt(i);
+			String address = entry.getString("Address");
+			TradeStation trade = new TradeStation(TradeStation.SAVE_NAME + address);
+			trade.readFromNBT(entry.getCompoundTag("Data"));
+			tradeStations.put(address, trade);
+			serialized.put(trade, entry.getCompoundTag("Data"));
+		}
+
+		list = nbttagcompound.getTagList("POBoxes", 10);
+		for (int i = 0; i < list.tagCount(); i++) {
+			NBTTagCompound entry = list.getCompoundTagAt(i);
+			String address = entry.getString("Address");
+			POBox pobox = new POBox(POBox.SAVE_NAME + address);
+			pobox.readFromNBT(entry.getCompoundTag("Data"));
+			poBoxes.put(address, pobox);
+			serialized.put(pobox, entry.getCompoundTag("Data"));
+		}
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound nbttagcompound) {
+		nbttagcompound.setTag("TradeStations", writeEntries(tradeStations));
+		nbttagcompound.setTag("POBoxes", writeEntries(poBoxes));
+	}
+
+	private NBTTagList writeEntries(Map<String, ? extends WorldSavedData> entries) {
+		NBTTagList list = new NBTTagList();
+		for (Entry<String, ? extends WorldSavedData> entry : entries.entrySet()) {
+			WorldSavedData data = entry.getValue();
+			NBTTagCompound nbt = serialized.get(data);
+			if (nbt == null || data.isDirty()) {
+				nbt = new NBTTagCompound();
+				data.writeToNBT(nbt);
+				data.setDirty(false);
+				serialized.put(data, nbt);
+			}
+
+			NBTTagCompound subcompound = new NBTTagCompound();
+			subcompound.setString("Address", entry.getKey());
+			subcompound.setTag("Data", nbt);
+			list.appendTag(subcompound);
+		}
+		return list;
+	}
+
+	/* MIGRATION */
+	/**
+	 * Takes over trade stations and po boxes saved to their own files by earlier versions.
+	 * The old files are left in place.
+	 */
+	public void migrate(World world) {
+		if (world == null || world.getSaveHandler() == null)
+			return;
+		File worldSave = world.getSaveHandler().getMapFileFromName("dummy");
+		if (worldSave == null)
+			return;
+		File dir = worldSave.getParentFile();
+		if (!dir.exists() || !dir.isDirectory())
+			return;
+
+		for (String str : dir.list()) {
+			if (!str.endsWith(".dat"))
+				continue;
+
+			String name = str.substring(0, str.length() - ".dat".length());
+			if (name.startsWith(TradeStation.SAVE_NAME)) {
+				NBTTagCompound nbt = readLegacyFile(new File(dir, str));
+				if (nbt == null)
+					continue;
+
+				TradeStation trade = new TradeStation(name);
+				trade.readFromNBT(nbt);
+				if (trade.isValid())
+					tradeStations.put(name.substring(TradeStation.SAVE_NAME.length()), trade);
+			} else if (name.startsWith(POBox.SAVE_NAME)) {
+				NBTTagCompound nbt = readLegacyFile(new File(dir, str));
+				if (nbt == null)
+					continue;
+
+				POBox pobox = new POBox(name);
+				pobox.readFromNBT(nbt);
+				poBoxes.put(name.substring(POBox.SAVE_NAME.length()), pobox);
+			}
+		}
+
+		if (!tradeStations.isEmpty() || !poBoxes.isEmpty()) {
+			Proxies.log.info("Migrated %s trade stations and %s po boxes to the mail store.", tradeStations.size(), poBoxes.size());
+			markDirty();
+		}
+	}
+
+	private static NBTTagCompound readLegacyFile(File file) {
+		try {
+			FileInputStream in = new FileInputStream(file);
+			try {
+				return CompressedStreamTools.readCompressed(in).getCompoundTag("data");
+			} finally {
+				in.close();
+			}
+		} catch (IOException ex) {
+			Proxies.log.warning("Failed to migrate mail data from " + file.getName());
+			return null;
+		}
+	}
+}
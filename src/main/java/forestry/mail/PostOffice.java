@@ -10,7 +10,6 @@
  ******************************************************************************/
 package forestry.mail;
 
-import java.io.File;
 import java.util.LinkedHashMap;
 import java.util.UUID;
 
@@ -64,6 +63,7 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 
 	/* TRADE STATION MANAGMENT */
 	private LinkedHashMap<MailAddress, ITradeStation> activeTradeStations;
+	private TradeIndex tradeIndex;
 
 	@Override
 	public LinkedHashMap<MailAddress, ITradeStation> getActiveTradeStations(World world) {
@@ -73,26 +73,24 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 		return this.activeTradeStations;
 	}
 
+	/**
+	 * @return Index over the active trade stations for the catalogue.
+	 */
+	public TradeIndex getTradeIndex(World world) {
+		if (activeTradeStations == null)
+			refreshActiveTradeStations(world);
+
+		return this.tradeIndex;
+	}
+
 	private void refreshActiveTradeStations(World world) {
 		activeTradeStations = new LinkedHashMap<MailAddress, ITradeStation>();
-		if (world == null || world.getSaveHandler() == null)
-			return;
-		File worldSave = world.getSaveHandler().getMapFileFromName("dummy");
-		if (worldSave == null)
-			return;
-		File file = worldSave.getParentFile();
-		if (!file.exists() || !file.isDirectory())
+		tradeIndex = new TradeIndex();
+		if (world == null)
 			return;
 
-		for (String str : file.list()) {
-			if (!str.startsWith(TradeStation.SAVE_NAME))
-				continue;
-			if (!str.endsWith(".dat"))
-				continue;
-
-			MailAddress address = new MailAddress(str.replace(TradeStation.SAVE_NAME, "").replace(".dat", ""));
-			ITradeStation trade = PostManager.postRegistry.getTradeStation(world, address);
-			if (trade == null)
+		for (TradeStation trade : PostRegistry.getMailStore(world).getTradeStations()) {
+			if (!trade.isValid())
 				continue;
 
 			registerTradeStation(trade);
@@ -104,8 +102,10 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 		if (activeTradeStations == null)
 			return;
 
-		if (!activeTradeStations.containsKey(trade.getAddress()))
+		if (!activeTradeStations.containsKey(trade.getAddress())) {
 			activeTradeStations.put(trade.getAddress(), trade);
+			tradeIndex.add(trade);
+		}
 
 	}
 
@@ -114,7 +114,8 @@ public class PostOffice extends WorldSavedData implements IPostOffice {
 		if (activeTradeStations == null)
 			return;
 
-		activeTradeStations.remove(trade.getAddress());
+		if (activeTradeStations.remove(trade.getAddress()) != null)
+			tradeIndex.remove(trade);
 	}
 
 	// / STAMP MANAGMENT
@@ -11,12 +11,14 @@
 package forestry.mail;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.storage.MapStorage;
 
 import com.mojang.authlib.GameProfile;
 
@@ -24,7 +26,6 @@ import forestry.api.mail.ILetter;
 import forestry.api.mail.IPostOffice;
 import forestry.api.mail.IPostRegistry;
 import forestry.api.mail.IPostalCarrier;
-import forestry.api.mail.ITradeStation;
 import forestry.api.mail.MailAddress;
 import forestry.api.mail.PostManager;
 import forestry.core.config.ForestryItem;
@@ -34,8 +35,27 @@ import forestry.plugins.PluginMail;
 public class PostRegistry implements IPostRegistry {
 
 	public static PostOffice cachedPostOffice;
-	public static HashMap<MailAddress, POBox> cachedPOBoxes = new HashMap<MailAddress, POBox>();
-	public static HashMap<MailAddress, ITradeStation> cachedTradeStations = new HashMap<MailAddress, ITradeStation>();
+	public static MailStore cachedMailStore;
+	private static WeakReference<MapStorage> cachedMailStorage;
+
+	/**
+	 * @return The store holding all trade stations and po boxes of the given world.
+	 */
+	public static MailStore getMailStore(World world) {
+		if (cachedMailStore != null && cachedMailStorage != null && cachedMailStorage.get() == world.mapStorage)
+			return cachedMailStore;
+
+		MailStore store = (MailStore) world.loadItemData(MailStore.class, MailStore.SAVE_NAME);
+		if (store == null) {
+			store = new MailStore();
+			store.migrate(world);
+			world.setItemData(MailStore.SAVE_NAME, store);
+		}
+
+		cachedMailStore = store;
+		cachedMailStorage = new WeakReference<MapStorage>(world.mapStorage);
+		return store;
+	}
 
 	/**
 	 * @param world
@@ -54,14 +74,7 @@ public class PostRegistry implements IPostRegistry {
 	}
 
 	public static POBox getPOBox(World world, MailAddress address) {
-
-		if (cachedPOBoxes.containsKey(address))
-			return cachedPOBoxes.get(address);
-
-		POBox pobox = (POBox) world.loadItemData(POBox.class, POBox.SAVE_NAME + address);
-		if (pobox != null)
-			cachedPOBoxes.put(address, pobox);
-		return pobox;
+		return getMailStore(world).getPOBox(address.toString());
 	}
 
 	public static POBox getOrCreatePOBox(World world, MailAddress address) {
@@ -69,9 +82,8 @@ public class PostRegistry implements IPostRegistry {
 
 		if (pobox == null) {
 			pobox = new POBox(address, true);
-			world.setItemData(POBox.SAVE_NAME + address, pobox);
 			pobox.markDirty();
-			cachedPOBoxes.put(address, pobox);
+			getMailStore(world).putPOBox(address.toString(), pobox);
 			PluginMail.proxy.setPOBoxInfo(world, address, pobox.getPOBoxInfo());
 		}
 
@@ -106,17 +118,11 @@ public class PostRegistry implements IPostRegistry {
 
 	@Override
 	public TradeStation getTradeStation(World world, MailAddress address) {
-		if (cachedTradeStations.containsKey(address))
-			return (TradeStation)cachedTradeStations.get(address);
-
-		TradeStation trade = (TradeStation) world.loadItemData(TradeStation.class, TradeStation.SAVE_NAME + address);
+		TradeStation trade = getMailStore(world).getTradeStation(address.toString());
 
 		// Only existing and valid mail orders are returned
-		if (trade != null && trade.isValid()) {
-			cachedTradeStations.put(address, trade);
-			getPostOffice(world).registerTradeStation(trade);
+		if (trade != null && trade.isValid())
 			return trade;
-		}
 
 		return null;
 	}
@@ -127,9 +133,8 @@ public class PostRegistry implements IPostRegistry {
 
 		if (trade == null) {
 			trade = new TradeStation(owner, address, true);
-			world.setItemData(TradeStation.SAVE_NAME + address, trade);
 			trade.markDirty();
-			cachedTradeStations.put(address, trade);
+			getMailStore(world).putTradeStation(address.toString(), trade);
 			getPostOffice(world).registerTradeStation(trade);
 		}
 
@@ -142,12 +147,14 @@ public class PostRegistry implements IPostRegistry {
 		if (trade == null)
 			return;
 
-		// Need to be marked as invalid since WorldSavedData seems to do some caching of its own.
+		// Invalidate for anyone still holding on to the station.
 		trade.invalidate();
-		cachedTradeStations.remove(address);
+		getMailStore(world).removeTradeStation(address.toString());
 		getPostOffice(world).deregisterTradeStation(trade);
+		// Remove a file left over from before the mail store, so it does not come back on downgrades.
 		File file = world.getSaveHandler().getMapFileFromName(trade.mapName);
-		file.delete();
+		if (file != null && file.exists())
+			file.delete();
 	}
 
 	@Override
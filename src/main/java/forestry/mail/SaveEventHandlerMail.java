@@ -20,8 +20,7 @@ public class SaveEventHandlerMail implements ISaveEventHandler {
 	@Override
 	public void onWorldLoad(World world) {
 		PostRegistry.cachedPostOffice = null;
-		PostRegistry.cachedPOBoxes.clear();
-		PostRegistry.cachedTradeStations.clear();
+		PostRegistry.cachedMailStore = null;
 		PluginMail.proxy.clearMailboxInfo();
 	}
 
@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.mail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import forestry.api.mail.ITradeStation;
+import forestry.api.mail.MailAddress;
+import forestry.api.mail.TradeStationInfo;
+
+/**
+ * Index over the active trade stations of a world for the catalogue.
+ *
+ * Trade info is only computed again for stations which changed. Stations are
+ * indexed by the item they offer, the items they request and their state.
+ * Query results are cached until any station changes.
+ *
+ * Item names are not known here, the server may run in a different language
+ * than its players. Clients resolve their search text to item keys themselves,
+ * see {@link #getItemKey(ItemStack)}.
+ */
+public class TradeIndex {
+
+	private final Map<MailAddress, IndexEntry> entries = new LinkedHashMap<MailAddress, IndexEntry>();
+	private final List<IndexEntry> staleEntries = new ArrayList<IndexEntry>();
+
+	private final Map<EnumStationState, Set<MailAddress>> byState = new EnumMap<EnumStationState, Set<MailAddress>>(EnumStationState.class);
+	private final Map<Integer, Set<MailAddress>> byItem = new HashMap<Integer, Set<MailAddress>>();
+
+	private final Map<List<Object>, List<ITradeStation>> results = new HashMap<List<Object>, List<ITradeStation>>();
+	private int generation;
+
+	private static final class IndexEntry {
+		private final ITradeStation station;
+		private TradeStationInfo info;
+		private final Set<Integer> itemKeys = new HashSet<Integer>();
+		private boolean isStale;
+
+		public IndexEntry(ITradeStation station) {
+			this.station = station;
+		}
+	}
+
+	public void add(ITradeStation station) {
+		if (entries.containsKey(station.getAddress()))
+			return;
+
+		IndexEntry entry = new IndexEntry(station);
+		entries.put(station.getAddress(), entry);
+		if (station instanceof TradeStation)
+			((TradeStation) station).setTradeIndex(this);
+		markStale(entry);
+	}
+
+	public void remove(ITradeStation station) {
+		IndexEntry entry = entries.remove(station.getAddress());
+		if (entry == null)
+			return;
+
+		unindex(entry);
+		staleEntries.remove(entry);
+		if (station instanceof TradeStation)
+			((TradeStation) station).setTradeIndex(null);
+		changed();
+	}
+
+	/**
+	 * Called by stations whenever their inventory changes.
+	 */
+	public void markStale(ITradeStation station) {
+		IndexEntry entry = entries.get(station.getAddress());
+		if (entry != null)
+			markStale(entry);
+	}
+
+	private void markStale(IndexEntry entry) {
+		if (!entry.isStale) {
+			entry.isStale = true;
+			staleEntries.add(entry);
+		}
+		changed();
+	}
+
+	private void changed() {
+		generation++;
+		results.clear();
+	}
+
+	/**
+	 * @return Counter which changes whenever the result of a query may have changed.
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * @return Cached trade info for the given station.
+	 */
+	public TradeStationInfo getTradeInfo(ITradeStation station) {
+		refresh();
+		IndexEntry entry = entries.get(station.getAddress());
+		if (entry == null || entry.station != station)
+			return station.getTradeInfo();
+		return entry.info;
+	}
+
+	/**
+	 * @return Key identifying item and damage of the given stack. Ids and damage values are sent as shorts, so both fit into one int.
+	 */
+	public static int getItemKey(ItemStack stack) {
+		return Item.getIdFromItem(stack.getItem()) << 16 | (stack.getItemDamage() & 0xffff);
+	}
+
+	/**
+	 * @param states Accepted station states, all if empty.
+	 * @param items Keys of offered or requested items as given by {@link #getItemKey(ItemStack)}, ignored if null.
+	 * @return Stations offering anything which match the given filters, in registration order.
+	 */
+	public List<ITradeStation> query(Set<EnumStationState> states, Set<Integer> items) {
+		refresh();
+
+		List<Object> key = Arrays.<Object>asList(states, items);
+		List<ITradeStation> result = results.get(key);
+		if (result != null)
+			return result;
+
+		Set<MailAddress> candidates = null;
+		if (!states.isEmpty()) {
+			candidates = new HashSet<MailAddress>();
+			for (EnumStationState state : states) {
+				Set<MailAddress> addresses = byState.get(state);
+				if (addresses != null)
+					candidates.addAll(addresses);
+			}
+		}
+
+		if (items != null) {
+			Set<MailAddress> matches = new HashSet<MailAddress>();
+			for (Integer item : items) {
+				Set<MailAddress> addresses = byItem.get(item);
+				if (addresses != null)
+					matches.addAll(addresses);
+			}
+
+			if (candidates != null)
+				candidates.retainAll(matches);
+			else
+				candidates = matches;
+		}
+
+		result = new ArrayList<ITradeStation>();
+		for (IndexEntry entry : entries.values()) {
+			if (entry.info == null || entry.info.tradegood == null)
+				continue;
+			if (candidates != null && !candidates.contains(entry.station.getAddress()))
+				continue;
+			result.add(entry.station);
+		}
+
+		result = Collections.unmodifiableList(result);
+		results.put(key, result);
+		return result;
+	}
+
+	private void refresh() {
+		if (staleEntries.isEmpty())
+			return;
+
+		for (IndexEntry entry : staleEntries) {
+			unindex(entry);
+			entry.info = entry.station.getTradeInfo();
+			entry.isStale = false;
+			index(entry);
+		}
+		staleEntries.clear();
+	}
+
+	private void index(IndexEntry entry) {
+		TradeStationInfo info = entry.info;
+		if (info == null)
+			return;
+
+		MailAddress address = entry.station.getAddress();
+		getOrCreate(byState, info.state).add(address);
+
+		addItem(entry, info.tradegood);
+		if (info.required != null)
+			for (ItemStack required : info.required)
+				addItem(entry, required);
+	}
+
+	private void addItem(IndexEntry entry, ItemStack stack) {
+		if (stack == null || stack.getItem() == null)
+			return;
+
+		int key = getItemKey(stack);
+		getOrCreate(byItem, key).add(entry.station.getAddress());
+		entry.itemKeys.add(key);
+	}
+
+	private void unindex(IndexEntry entry) {
+		MailAddress address = entry.station.getAddress();
+		if (entry.info != null) {
+			Set<MailAddress> addresses = byState.get(entry.info.state);
+			if (addresses != null)
+				addresses.remove(address);
+		}
+
+		for (Integer key : entry.itemKeys) {
+			Set<MailAddress> addresses = byItem.get(key);
+			if (addresses == null)
+				continue;
+
+			addresses.remove(address);
+			if (addresses.isEmpty())
+				byItem.remove(key);
+		}
+		entry.itemKeys.clear();
+	}
+
+	private static <K> Set<MailAddress> getOrCreate(Map<K, Set<MailAddress>> map, K key) {
+		Set<MailAddress> set = map.get(key);
+		if (set == null) {
+			set = new HashSet<MailAddress>();
+			map.put(key, set);
+		}
+		return set;
+	}
+}
@@ -59,6 +59,7 @@ public class TradeStation extends WorldSavedData implements ITradeStation, IInve
 	private boolean isVirtual = false;
 	private boolean isInvalid = false;
 	private final InventoryAdapter inventory = new InventoryAdapter(SLOT_SIZE, "INV");
+	private TradeIndex tradeIndex;
 
 	// / CONSTRUCTORS
 	public TradeStation(GameProfile owner, MailAddress address, boolean isMoniker) {
@@ -116,6 +117,13 @@ public class TradeStation extends WorldSavedData implements ITradeStation, IInve
 		inventory.writeToNBT(nbttagcompound);
 	}
 
+	/**
+	 * Sets the index to notify about changes of this station's inventory.
+	 */
+	public void setTradeIndex(TradeIndex tradeIndex) {
+		this.tradeIndex = tradeIndex;
+	}
+
 	/* INVALIDATING */
 	@Override
 	public boolean isValid() {
@@ -456,6 +464,8 @@ public class TradeStation extends WorldSavedData implements ITradeStation, IInve
 	public void markDirty() {
 		super.markDirty();
 		inventory.markDirty();
+		if (tradeIndex != null)
+			tradeIndex.markStale(this);
 	}
 
 	@Override
@@ -476,6 +486,7 @@ public class TradeStation extends WorldSavedData implements ITradeStation, IInve
 
 	@Override
 	public ItemStack decrStackSize(int var1, int var2) {
+		this.markDirty();
 		return inventory.decrStackSize(var1, var2);
 	}
 
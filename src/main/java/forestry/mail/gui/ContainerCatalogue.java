@@ -10,17 +10,15 @@
  ******************************************************************************/
 package forestry.mail.gui;
 
+import java.util.Collections;
 import java.util.EnumSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
-import forestry.api.mail.MailAddress;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.ICrafting;
 
-import com.mojang.authlib.GameProfile;
-
 import forestry.api.mail.ITradeStation;
 import forestry.api.mail.PostManager;
 import forestry.api.mail.TradeStationInfo;
@@ -31,20 +29,30 @@ import forestry.core.network.PacketPayload;
 import forestry.core.network.PacketUpdate;
 import forestry.core.proxy.Proxies;
 import forestry.mail.EnumStationState;
+import forestry.mail.PostOffice;
+import forestry.mail.TradeIndex;
 import forestry.mail.network.PacketTradeInfo;
+import forestry.plugins.PluginMail;
 
 public class ContainerCatalogue extends ContainerForestry implements IGuiSelectable {
 
 	private final EntityPlayer player;
-	private final LinkedHashMap<MailAddress, ITradeStation> stations;
+	private List<ITradeStation> stations = Collections.emptyList();
 	private TradeStationInfo currentTrade = null;
-	private Iterator<ITradeStation> iterator = null;
 
 	private int maxItPos = 0;
 	private int currentItPos = 0;
 
 	private boolean needsSynch = true;
 	private int currentFilter = 1;
+	private String currentSearch = "";
+	private Set<Integer> currentSearchItems = null;
+	private int indexGeneration = -1;
+
+	/**
+	 * Keeps search packets below the size limit of client packets. Only single letter searches in large mod packs come close.
+	 */
+	public static final int MAX_SEARCH_ITEMS = 4096;
 
 	private static final String[] FILTER_NAMES = new String[] { "all", "online", "offline" };
 	@SuppressWarnings("unchecked")
@@ -58,9 +66,8 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 		super(player.inventory);
 		this.player = player;
 
-		// Filter out any trade stations which do not actually offer anything.
-		stations = new LinkedHashMap<MailAddress, ITradeStation>();
-		rebuildStationsList();
+		if (Proxies.common.isSimulating(player.worldObj))
+			rebuildStationsList();
 	}
 
 	public int getMaxCount() { return maxItPos; }
@@ -68,33 +75,41 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 
 	public String getFilterIdent() { return FILTER_NAMES[currentFilter]; }
 
+	private TradeIndex getTradeIndex() {
+		return ((PostOffice) PostManager.postRegistry.getPostOffice(player.worldObj)).getTradeIndex(player.worldObj);
+	}
+
+	/**
+	 * Queries the trade index again, keeping the current station selected if it is still listed.
+	 */
 	private void rebuildStationsList() {
-		stations.clear();
-		for(ITradeStation station : PostManager.postRegistry.getPostOffice(player.worldObj).getActiveTradeStations(player.worldObj).values()) {
-			TradeStationInfo info = station.getTradeInfo();
-			if(info.tradegood == null)
-				continue;
-
-			if(!FILTERS[currentFilter].isEmpty()) {
-				if(!FILTERS[currentFilter].contains(info.state))
-					continue;
-			}
+		TradeIndex index = getTradeIndex();
+		indexGeneration = index.getGeneration();
 
-			stations.put(station.getAddress(), station);
-		}
+		// Filter out any trade stations which do not actually offer anything.
+		stations = index.query(FILTERS[currentFilter], currentSearchItems);
 		maxItPos = stations.size();
-		resetIteration();
 
+		int position = -1;
+		if (currentTrade != null)
+			for (int i = 0; i < stations.size(); i++)
+				if (stations.get(i).getAddress().equals(currentTrade.address)) {
+					position = i;
+					break;
+				}
+
+		showStation(position >= 0 ? position : 0);
 	}
 
-	private void resetIteration() {
-		if(!stations.isEmpty()) {
-			iterator = stations.values().iterator();
-			updateTradeInfo(iterator.next());
-		} else
+	private void showStation(int position) {
+		if (stations.isEmpty()) {
+			currentItPos = 1;
 			updateTradeInfo(null);
+			return;
+		}
 
-		currentItPos = 1;
+		currentItPos = position + 1;
+		updateTradeInfo(stations.get(position));
 	}
 
 	public void advanceIteration() {
@@ -107,11 +122,7 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 		if(stations.isEmpty())
 			return;
 
-		if(iterator.hasNext()) {
-			currentItPos++;
-			updateTradeInfo(iterator.next());
-		} else
-			resetIteration();
+		showStation(currentItPos % stations.size());
 	}
 
 	public void regressIteration() {
@@ -124,28 +135,7 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 		if(stations.isEmpty())
 			return;
 
-		iterator = stations.values().iterator();
-		ITradeStation previous = null;
-		currentItPos = 0;
-
-		while(iterator.hasNext()) {
-			ITradeStation current = iterator.next();
-			if(!current.getAddress().equals(currentTrade.address)) {
-				currentItPos++;
-				previous = current;
-				continue;
-			}
-
-			if(previous == null) {
-				Iterator<ITradeStation> it = stations.values().iterator();
-				currentItPos = stations.size();
-				while(it.hasNext())
-					previous = it.next();
-
-			}
-			updateTradeInfo(previous);
-			break;
-		}
+		showStation(currentItPos > 1 ? currentItPos - 2 : stations.size() - 1);
 	}
 
 	public void cycleFilter() {
@@ -165,6 +155,50 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 		rebuildStationsList();
 	}
 
+	/**
+	 * Only lists stations offering or requesting an item whose name contains the given text.
+	 * Names are matched on the client in the player's language, the server only receives the keys of matching items.
+	 */
+	/**
+	 * @return false if more than {@link #MAX_SEARCH_ITEMS} items matched the search, only trade stations for the first ones are listed then.
+	 */
+	public boolean setSearch(String search) {
+		if (search == null)
+			search = "";
+		search = search.trim();
+
+		if(Proxies.common.isSimulating(player.worldObj))
+			return true;
+
+		int[] items = search.isEmpty() ? new int[0] : PluginMail.proxy.getItemsMatching(search, MAX_SEARCH_ITEMS + 1);
+		int count = Math.min(items.length, MAX_SEARCH_ITEMS);
+		PacketPayload payload = new PacketPayload(1 + count, 0, 1);
+		payload.intPayload[0] = 3;
+		System.arraycopy(items, 0, payload.intPayload, 1, count);
+		payload.stringPayload[0] = search;
+		PacketUpdate packet = new PacketUpdate(PacketIds.GUI_SELECTION_CHANGE, payload);
+		Proxies.net.sendToServer(packet);
+
+		return items.length <= MAX_SEARCH_ITEMS;
+	}
+
+	private void setSearch(String search, int[] payload) {
+		Set<Integer> items = null;
+		if (!search.isEmpty()) {
+			items = new HashSet<Integer>();
+			for (int i = 1; i < payload.length && i <= MAX_SEARCH_ITEMS; i++)
+				items.add(payload[i]);
+			items = Collections.unmodifiableSet(items);
+		}
+
+		if (search.equals(currentSearch) && (items == null ? currentSearchItems == null : items.equals(currentSearchItems)))
+			return;
+
+		currentSearch = search;
+		currentSearchItems = items;
+		rebuildStationsList();
+	}
+
 	private void sendSelection(boolean advance) {
 		PacketPayload payload = new PacketPayload(1, 0, 0);
 		payload.intPayload[0] = advance ? 0 : 1;
@@ -179,7 +213,7 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 			return;
 
 		if(station != null)
-			setTradeInfo(station.getTradeInfo());
+			setTradeInfo(getTradeIndex().getTradeInfo(station));
 		else
 			setTradeInfo(null);
 		needsSynch = true;
@@ -201,6 +235,10 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 	public void detectAndSendChanges() {
 		super.detectAndSendChanges();
 
+		// Some station changed since the last query.
+		if (Proxies.common.isSimulating(player.worldObj) && getTradeIndex().getGeneration() != indexGeneration)
+			rebuildStationsList();
+
 		if(needsSynch) {
 			for (int i = 0; i < crafters.size(); i++) {
 				ICrafting crafter = (ICrafting)crafters.get(i);
@@ -238,6 +276,8 @@ public class ContainerCatalogue extends ContainerForestry implements IGuiSelecta
 			regressIteration();
 		else if(packet.payload.intPayload[0] == 2)
 			cycleFilter();
+		else if(packet.payload.intPayload[0] == 3 && packet.payload.stringPayload.length > 0)
+			setSearch(packet.payload.stringPayload[0], packet.payload.intPayload);
 
 		needsSynch = true;
 	}
@@ -14,7 +14,9 @@ import java.util.Locale;
 
 import net.minecraft.client.gui.GuiButton;
 import net.minecraft.client.gui.GuiScreen;
+import net.minecraft.client.gui.GuiTextField;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.ResourceLocation;
 
 import org.lwjgl.input.Keyboard;
@@ -35,6 +37,8 @@ public class GuiCatalogue extends GuiForestry<TileForestry> {
 	GuiButton buttonFilter;
 	GuiButton buttonCopy;
 
+	private GuiTextField search;
+
 	ContainerCatalogue container;
 
 	public GuiCatalogue(EntityPlayer player) {
@@ -61,6 +65,40 @@ public class GuiCatalogue extends GuiForestry<TileForestry> {
 		buttonList.add(buttonFilter = new GuiButton(4, (width / 2) - 44, guiTop + 150, 42, 20, StringUtil.localize("gui.mail.filter.all")));
 
 		buttonList.add(buttonCopy = new GuiButton(5, width / 2, guiTop + 150, 42, 20, StringUtil.localize("gui.mail.address.copy")));
+
+		search = new GuiTextField(this.fontRendererObj, width / 2 - 58, guiTop + 172, 114, 12);
+	}
+
+	@Override
+	protected void keyTyped(char eventCharacter, int eventKey) {
+
+		// Enter text into the search field
+		if (this.search.isFocused()) {
+			if (eventKey == Keyboard.KEY_RETURN) {
+				this.search.setFocused(false);
+				updateSearch();
+			} else
+				this.search.textboxKeyTyped(eventCharacter, eventKey);
+			return;
+		}
+
+		super.keyTyped(eventCharacter, eventKey);
+	}
+
+	@Override
+	protected void mouseClicked(int par1, int par2, int mouseButton) {
+		super.mouseClicked(par1, par2, mouseButton);
+
+		// Search once the field loses focus
+		boolean focused = this.search.isFocused();
+		this.search.mouseClicked(par1, par2, mouseButton);
+		if (focused && !this.search.isFocused())
+			updateSearch();
+	}
+
+	private void updateSearch() {
+		if (!container.setSearch(search.getText()))
+			mc.thePlayer.addChatMessage(new ChatComponentTranslation("chat.mail.search.truncated", ContainerCatalogue.MAX_SEARCH_ITEMS));
 	}
 
 	@Override
@@ -85,6 +123,8 @@ public class GuiCatalogue extends GuiForestry<TileForestry> {
 			buttonCopy.enabled = false;
 		else
 			buttonCopy.enabled = true;
+
+		search.drawTextBox();
 	}
 
 	private void drawNoTrade(int x, int y) {
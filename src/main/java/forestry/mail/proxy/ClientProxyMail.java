@@ -10,8 +10,16 @@
  ******************************************************************************/
 package forestry.mail.proxy;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 import forestry.api.mail.MailAddress;
 import net.minecraft.client.entity.EntityClientPlayerMP;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
 
 import com.mojang.authlib.GameProfile;
@@ -22,10 +30,15 @@ import forestry.core.proxy.Proxies;
 import forestry.mail.POBox;
 import forestry.mail.POBoxInfo;
 import forestry.mail.PostRegistry;
+import forestry.mail.TradeIndex;
 import forestry.mail.gui.GuiMailboxInfo;
 
 public class ClientProxyMail extends ProxyMail {
 
+	private String namesLanguage;
+	private int[] nameKeys = new int[0];
+	private String[] names = new String[0];
+
 	@Override
 	public void clearMailboxInfo() {
 		GuiMailboxInfo.instance = null;
@@ -48,6 +61,60 @@ public class ClientProxyMail extends ProxyMail {
 		}
 	}
 
+	@Override
+	public int[] getItemsMatching(String search, int limit) {
+		String language = Proxies.common.getCurrentLanguage();
+		if (!language.equals(namesLanguage)) {
+			buildItemNames();
+			namesLanguage = language;
+		}
+
+		search = search.toLowerCase(Locale.ENGLISH);
+		Set<Integer> matches = new LinkedHashSet<Integer>();
+		for (int i = 0; i < names.length && matches.size() < limit; i++)
+			if (names[i].contains(search))
+				matches.add(nameKeys[i]);
+
+		int[] result = new int[matches.size()];
+		int i = 0;
+		for (Integer key : matches)
+			result[i++] = key;
+		return result;
+	}
+
+	/**
+	 * Lists the names of all items and their subtypes in the current language, as NEI and the creative search do.
+	 */
+	@SuppressWarnings("unchecked")
+	private void buildItemNames() {
+		List<Integer> keys = new ArrayList<Integer>();
+		List<String> localized = new ArrayList<String>();
+
+		for (Object obj : Item.itemRegistry) {
+			Item item = (Item) obj;
+			List<ItemStack> stacks = new ArrayList<ItemStack>();
+			try {
+				item.getSubItems(item, item.getCreativeTab(), stacks);
+				if (stacks.isEmpty())
+					stacks.add(new ItemStack(item));
+
+				for (ItemStack stack : stacks) {
+					if (stack == null || stack.getItem() == null)
+						continue;
+					keys.add(TradeIndex.getItemKey(stack));
+					localized.add(stack.getDisplayName().toLowerCase(Locale.ENGLISH));
+				}
+			} catch (RuntimeException ex) {
+				// Some items can't name their subtypes outside of a creative tab, they just can't be searched for.
+			}
+		}
+
+		nameKeys = new int[keys.size()];
+		for (int i = 0; i < nameKeys.length; i++)
+			nameKeys[i] = keys.get(i);
+		names = localized.toArray(new String[localized.size()]);
+	}
+
 	@Override
 	public void setPOBoxInfo(World world, MailAddress address, POBoxInfo info) {
 		if (!address.isPlayer())
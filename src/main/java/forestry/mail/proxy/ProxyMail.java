@@ -29,6 +29,13 @@ public class ProxyMail {
 	public void resetMailboxInfo() {
 	}
 
+	/**
+	 * @return Keys of at most limit items whose name in the player's language contains the given text. Only available on the client.
+	 */
+	public int[] getItemsMatching(String search, int limit) {
+		return new int[0];
+	}
+
 	public void setPOBoxInfo(World world, MailAddress address, POBoxInfo info) {
 		if (!address.isPlayer())
 			throw new IllegalArgumentException("address must be a player");
@@ -56,6 +56,8 @@ import forestry.arboriculture.FruitProviderRandom;
 import forestry.arboriculture.FruitProviderRipening;
 import forestry.arboriculture.GuiHandlerArboriculture;
 import forestry.arboriculture.PacketHandlerArboriculture;
+import forestry.arboriculture.RipeningSynchronizer;
+import forestry.arboriculture.SaveEventHandlerArboriculture;
 import forestry.arboriculture.VillageHandlerArboriculture;
 import forestry.arboriculture.WoodType;
 import forestry.arboriculture.gadgets.BlockArbFence;
@@ -336,6 +338,7 @@ public class PluginArboriculture extends NativePlugin implements IFuelHandler {
 		PluginArboriculture.treeInterface.registerTreekeepingMode(TreekeepingMode.insane);
 
 		MinecraftForge.EVENT_BUS.register(new EventHandlerArboriculture());
+		new RipeningSynchronizer();
 
 		VillagerRegistry.instance().registerVillagerId(Defaults.ID_VILLAGER_LUMBERJACK);
 		Proxies.render.registerVillagerSkin(Defaults.ID_VILLAGER_LUMBERJACK, Defaults.TEXTURE_SKIN_LUMBERJACK);
@@ -1032,7 +1035,7 @@ public class PluginArboriculture extends NativePlugin implements IFuelHandler {
 
 	@Override
 	public ISaveEventHandler getSaveEventHandler() {
-		return null;
+		return new SaveEventHandlerArboriculture();
 	}
 
 	@Override
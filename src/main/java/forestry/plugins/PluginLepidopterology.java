@@ -42,14 +42,17 @@ import forestry.core.gadgets.BlockBase;
 import forestry.core.gadgets.MachineDefinition;
 import forestry.core.genetics.Allele;
 import forestry.core.genetics.Branch;
+import forestry.core.interfaces.ISaveEventHandler;
 import forestry.core.items.ItemForestryBlock;
 import forestry.core.proxy.Proxies;
 import forestry.core.utils.LiquidHelper;
 import forestry.core.utils.ShapedRecipeCustom;
 import forestry.core.utils.Utils;
+import forestry.lepidopterology.ButterflyPopulation;
 import forestry.lepidopterology.ButterflySpawner;
 import forestry.lepidopterology.GuiHandlerLepidopterology;
 import forestry.lepidopterology.MatingRecipe;
+import forestry.lepidopterology.SaveEventHandlerLepidopterology;
 import forestry.lepidopterology.entities.EntityButterfly;
 import forestry.lepidopterology.gadgets.TileLepidopteristChest;
 import forestry.lepidopterology.genetics.AlleleButterflySpecies;
@@ -68,6 +71,7 @@ public class PluginLepidopterology extends NativePlugin {
 	private static final String CONFIG_CATEGORY = "lepidopterology";
 	private Configuration config;
 	public static int spawnConstraint = 100;
+	public static int regionConstraint = 20;
 	public static int entityConstraint = 1000;
 	public static IClassification geometridae;
 	public static IClassification saturniidae;
@@ -115,6 +119,11 @@ public class PluginLepidopterology extends NativePlugin {
 		property.Comment = "determines the global butterfly entity count above which natural spawning of butterflies ceases.";
 		spawnConstraint = Integer.parseInt(property.Value);
 
+		property = config.get("entities.spawn.limit.region", CONFIG_CATEGORY, regionConstraint);
+		property.Comment = "determines the butterfly entity count within a region of " + ButterflyPopulation.REGION_SIZE + "x" + ButterflyPopulation.REGION_SIZE
+				+ " chunks above which natural spawning of butterflies ceases in that region.";
+		regionConstraint = Integer.parseInt(property.Value);
+
 		property = config.get("entities.maximum.allowed", CONFIG_CATEGORY, entityConstraint);
 		property.Comment = "determines the global butterfly entity count above which butterflies will stay in item form and will not take flight anymore.";
 		entityConstraint = Integer.parseInt(property.Value);
@@ -326,4 +335,9 @@ public class PluginLepidopterology extends NativePlugin {
 	public IGuiHandler getGuiHandler() {
 		return new GuiHandlerLepidopterology();
 	}
+
+	@Override
+	public ISaveEventHandler getSaveEventHandler() {
+		return new SaveEventHandlerLepidopterology();
+	}
 }
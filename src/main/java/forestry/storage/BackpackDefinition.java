@@ -11,12 +11,16 @@
 package forestry.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import forestry.api.storage.IBackpackDefinition;
 import forestry.core.config.Defaults;
+import forestry.core.utils.LongHashSet;
 import forestry.core.utils.StringUtil;
 
 public class BackpackDefinition implements IBackpackDefinition {
@@ -28,6 +32,13 @@ public class BackpackDefinition implements IBackpackDefinition {
 
 	ArrayList<ItemStack> validItems = new ArrayList<ItemStack>();
 
+	// Index over validItems. The list is shared with BackpackManager.backpackItems and grows
+	// with ore dictionary registrations, so new entries are merged in on lookup.
+	private final LongHashSet indexedItems = new LongHashSet();
+	private final Set<Item> indexedWildcards = new HashSet<Item>();
+	private ArrayList<ItemStack> indexedList;
+	private int indexedCount;
+
 	public BackpackDefinition(String name, int primaryColor) {
 		this(name, primaryColor, 0xffffff);
 	}
@@ -80,15 +91,39 @@ public class BackpackDefinition implements IBackpackDefinition {
 
 	@Override
 	public boolean isValidItem(EntityPlayer player, ItemStack itemstack) {
-		for (ItemStack stack : getValidItems(player))
-			if (stack != null && stack.getItem() != null)
-				if (stack.getItemDamage() == Defaults.WILDCARD) {
-					if (stack.getItem() == itemstack.getItem())
-						return true;
-				} else if (stack.isItemEqual(itemstack))
-					return true;
-
-		return false;
+		if (itemstack == null || itemstack.getItem() == null)
+			return false;
+
+		synchronized (indexedItems) {
+			updateIndex();
+			if (indexedWildcards.contains(itemstack.getItem()))
+				return true;
+			return indexedItems.contains(getKey(itemstack));
+		}
+	}
+
+	private void updateIndex() {
+		if (indexedList != validItems || indexedCount > validItems.size()) {
+			indexedItems.clear();
+			indexedWildcards.clear();
+			indexedList = validItems;
+			indexedCount = 0;
+		}
+
+		for (; indexedCount < validItems.size(); indexedCount++) {
+			ItemStack stack = validItems.get(indexedCount);
+			if (stack == null || stack.getItem() == null)
+				continue;
+
+			if (stack.getItemDamage() == Defaults.WILDCARD)
+				indexedWildcards.add(stack.getItem());
+			else
+				indexedItems.add(getKey(stack));
+		}
+	}
+
+	private static long getKey(ItemStack stack) {
+		return ((long) Item.getIdFromItem(stack.getItem()) << 32) | (stack.getItemDamage() & 0xffffffffL);
 	}
 
 }
@@ -16,6 +16,7 @@ import net.minecraft.item.ItemStack;
 
 import forestry.storage.gui.ContainerNaturalistBackpack;
 import forestry.core.interfaces.IPickupHandler;
+import forestry.core.utils.StackUtils;
 import forestry.storage.gui.ContainerBackpack;
 import forestry.storage.items.ItemBackpack;
 
@@ -80,7 +81,7 @@ public class PickupHandlerStorage implements IPickupHandler {
 			if (inventoryStack.stackSize >= inventoryStack.getMaxStackSize())
 				continue;
 
-			if (inventoryStack.isItemEqual(itemstack) && ItemStack.areItemStackTagsEqual(inventoryStack, itemstack)) {
+			if (inventoryStack.isItemEqual(itemstack) && StackUtils.areItemStackTagsEqual(inventoryStack, itemstack)) {
 				int space = inventoryStack.getMaxStackSize() - inventoryStack.stackSize;
 
 				// Enough space to add all
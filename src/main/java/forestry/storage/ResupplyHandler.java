@@ -10,23 +10,45 @@
  ******************************************************************************/
 package forestry.storage;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.ContainerPlayer;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
 
 import cpw.mods.fml.common.eventhandler.Event;
 
 import net.minecraftforge.common.MinecraftForge;
 
-import forestry.api.storage.BackpackManager;
 import forestry.api.storage.BackpackResupplyEvent;
-import forestry.api.storage.IBackpackDefinition;
 import forestry.core.interfaces.IResupplyHandler;
 import forestry.core.utils.ItemInventory;
+import forestry.core.utils.StackUtils;
 import forestry.storage.items.ItemBackpack;
 
+/**
+ * Tops off the player's inventory from backpacks in resupply mode.
+ *
+ * Idle players are only looked at every few ticks and skipped entirely as long
+ * as their inventory did not change since the last pass, since a pass over an
+ * unchanged inventory cannot move anything. Decoded backpack contents are kept
+ * until the backpack stack or its tag changes.
+ */
 public class ResupplyHandler implements IResupplyHandler {
 
+	private static final int CHECK_INTERVAL = 10;
+
+	private final Map<EntityPlayer, ResupplyState> states = new WeakHashMap<EntityPlayer, ResupplyState>();
+
+	private static final class ResupplyState {
+		private boolean active = true;
+		private int inventoryHash;
+		private ItemInventory[] inventories;
+		private int[] inventoryHashes;
+	}
+
 	@Override
 	public void resupply(EntityPlayer player) {
 
@@ -34,35 +56,61 @@ public class ResupplyHandler implements IResupplyHandler {
 		if (!(player.openContainer instanceof ContainerPlayer))
 			return;
 
-		for (IBackpackDefinition backpack : BackpackManager.definitions.values())
-			resupply(backpack, player);
+		ResupplyState state = states.get(player);
+		if (state == null) {
+			state = new ResupplyState();
+			states.put(player, state);
+		}
+
+		if (!state.active) {
+			if ((player.worldObj.getTotalWorldTime() + player.getEntityId()) % CHECK_INTERVAL != 0)
+				return;
+			if (getInventoryHash(player) == state.inventoryHash)
+				return;
+		}
 
+		// Keep going every tick as long as something is counting down or being moved.
+		state.active = resupplyBackpacks(player, state);
+		state.inventoryHash = getInventoryHash(player);
 	}
 
-	public void resupply(IBackpackDefinition backpackItem, EntityPlayer player) {
+	/**
+	 * @return true if any backpack is still waiting or moved items.
+	 */
+	private boolean resupplyBackpacks(EntityPlayer player, ResupplyState state) {
 
-		// Get all backpacks of this type in the player's inventory
-		for (ItemStack backpack : player.inventory.mainInventory) {
+		ItemStack[] mainInventory = player.inventory.mainInventory;
+		if (state.inventories == null || state.inventories.length != mainInventory.length) {
+			state.inventories = new ItemInventory[mainInventory.length];
+			state.inventoryHashes = new int[mainInventory.length];
+		}
 
-			if (backpack == null || backpack.stackSize <= 0)
-				continue;
+		boolean active = false;
+		// Get all backpacks in the player's inventory
+		for (int slot = 0; slot < mainInventory.length; slot++) {
+			ItemStack backpack = mainInventory[slot];
 
-			if (!(backpack.getItem() instanceof ItemBackpack))
+			if (backpack == null || backpack.stackSize <= 0 || !(backpack.getItem() instanceof ItemBackpack)) {
+				state.inventories[slot] = null;
 				continue;
+			}
 
 			// Only handle those in resupply mode
-			if (ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY)
+			if (ItemBackpack.getMode(backpack) != BackpackMode.RESUPPLY) {
+				state.inventories[slot] = null;
 				continue;
+			}
 
 			// Delay before resupplying
 			if (backpack.getItemDamage() < 40) {
 				backpack.setItemDamage(backpack.getItemDamage() + 1);
+				active = true;
 				continue;
 			}
 
 			// Load their inventory
 			ItemBackpack packItem = ((ItemBackpack) backpack.getItem());
-			ItemInventory backpackinventory = new ItemInventory(ItemBackpack.class, packItem.getBackpackSize(), backpack);
+			ItemInventory backpackinventory = getInventory(state, slot, packItem, backpack);
 			Event event = new BackpackResupplyEvent(player, packItem.getDefinition(), backpackinventory);
 			MinecraftForge.EVENT_BUS.post(event);
 			if (event.isCanceled())
@@ -88,10 +136,55 @@ public class ResupplyHandler implements IResupplyHandler {
 					backpackinventory.setInventorySlotContents(i, null);
 			}
 			// Save the backpack inventory if it changed
-			if (inventoryChanged)
+			if (inventoryChanged) {
 				backpackinventory.onGuiSaved(player);
+				state.inventoryHashes[slot] = getTagHash(backpack);
+				active = true;
+			}
+
+		}
+
+		return active;
+	}
+
+	private ItemInventory getInventory(ResupplyState state, int slot, ItemBackpack packItem, ItemStack backpack) {
+		ItemInventory inventory = state.inventories[slot];
+		if (inventory != null && inventory.parent == backpack && state.inventoryHashes[slot] == getTagHash(backpack))
+			return inventory;
+
+		inventory = new ItemInventory(ItemBackpack.class, packItem.getBackpackSize(), backpack);
+		state.inventories[slot] = inventory;
+		// Creating the inventory assigns a new UID, so hash afterwards.
+		state.inventoryHashes[slot] = getTagHash(backpack);
+		return inventory;
+	}
+
+	private static int getTagHash(ItemStack stack) {
+		NBTTagCompound nbt = stack.getTagCompound();
+		return nbt != null ? nbt.hashCode() : 0;
+	}
+
+	/**
+	 * @return Hash over everything a resupply pass depends on.
+	 */
+	private static int getInventoryHash(EntityPlayer player) {
+		int hash = 1;
+		for (int i = 0; i < player.inventory.getSizeInventory(); i++) {
+			ItemStack stack = player.inventory.getStackInSlot(i);
+			if (stack == null) {
+				hash = 31 * hash;
+				continue;
+			}
 
+			hash = 31 * hash + System.identityHashCode(stack);
+			hash = 31 * hash + stack.stackSize;
+			hash = 31 * hash + stack.getItemDamage();
+			if (stack.getItem() instanceof ItemBackpack)
+				hash = 31 * hash + getTagHash(stack);
+			else
+				hash = 31 * hash + System.identityHashCode(stack.getTagCompound());
 		}
+		return hash;
 	}
 
 	/**
@@ -114,7 +207,7 @@ public class ResupplyHandler implements IResupplyHandler {
 			if (inventoryStack.stackSize >= inventoryStack.getMaxStackSize())
 				continue;
 
-			if (inventoryStack.isItemEqual(itemstack) && ItemStack.areItemStackTagsEqual(inventoryStack, itemstack)) {
+			if (inventoryStack.isItemEqual(itemstack) && StackUtils.areItemStackTagsEqual(inventoryStack, itemstack)) {
 
 				inventoryStack.stackSize++;
 				itemstack.stackSize--;
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.genetics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Random;
+
+import org.junit.Test;
+
+import forestry.api.genetics.IAllele;
+import forestry.api.genetics.IAlleleSpecies;
+import forestry.api.genetics.IChromosome;
+import forestry.api.genetics.ISpeciesRoot;
+
+public class GenomeFingerprintTest {
+
+	private static final int SLOTS = 4;
+	private static final int UIDS = 3;
+	private static final int RUNS = 20000;
+
+	private static final ISpeciesRoot ROOT = stub(ISpeciesRoot.class, "test.root");
+
+	/**
+	 * Two distinct allele instances per UID, genomes are compared by UID and not by identity.
+	 */
+	private static final IAllele[][] ALLELES = new IAllele[UIDS][2];
+
+	static {
+		for (int i = 0; i < UIDS; i++)
+			for (int j = 0; j < ALLELES[i].length; j++)
+				ALLELES[i][j] = stub(IAlleleSpecies.class, "test.allele" + i);
+	}
+
+	@Test
+	public void equalGenomesHaveEqualFingerprints() {
+		Random random = new Random(42);
+		for (int run = 0; run < RUNS; run++) {
+			TestGenome genome = createGenome(random);
+			TestGenome other = createGenome(random);
+			if (isSameUIDs(genome, other))
+				assertEquals(genome.getFingerprint(), other.getFingerprint());
+		}
+	}
+
+	@Test
+	public void isGeneticEqualMatchesUIDComparison() {
+		Random random = new Random(42);
+		for (int run = 0; run < RUNS; run++) {
+			TestGenome genome = createGenome(random);
+			TestGenome other = createGenome(random);
+			boolean expected = isSameUIDs(genome, other);
+
+			// Without fingerprints first, then with both computed.
+			assertEquals(expected, genome.isGeneticEqual(other));
+			genome.getFingerprint();
+			other.getFingerprint();
+			assertEquals(expected, genome.isGeneticEqual(other));
+			assertEquals(expected, other.isGeneticEqual(genome));
+		}
+	}
+
+	private static TestGenome createGenome(Random random) {
+		IChromosome[] chromosomes = new IChromosome[SLOTS];
+		for (int i = 0; i < SLOTS; i++) {
+			// Leave a slot empty now and then.
+			if (random.nextInt(10) == 0)
+				continue;
+			chromosomes[i] = new Chromosome(randomAllele(random), randomAllele(random));
+		}
+		return new TestGenome(chromosomes);
+	}
+
+	private static IAllele randomAllele(Random random) {
+		return ALLELES[random.nextInt(UIDS)][random.nextInt(2)];
+	}
+
+	private static boolean isSameUIDs(TestGenome genome, TestGenome other) {
+		IChromosome[] chromosomes = genome.getChromosomes();
+		IChromosome[] others = other.getChromosomes();
+		for (int i = 0; i < SLOTS; i++) {
+			if (chromosomes[i] == null || others[i] == null) {
+				if (chromosomes[i] != others[i])
+					return false;
+				continue;
+			}
+
+			if (!chromosomes[i].getPrimaryAllele().getUID().equals(others[i].getPrimaryAllele().getUID()))
+				return false;
+			if (!chromosomes[i].getSecondaryAllele().getUID().equals(others[i].getSecondaryAllele().getUID()))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return Instance of the given interface answering getUID with the given UID and getDefaultTemplate with an empty template. Nothing else is
+	 *         needed to build and compare genomes.
+	 */
+	private static <T> T stub(Class<T> type, final String uid) {
+		Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) {
+				String name = method.getName();
+				if (name.equals("getUID"))
+					return uid;
+				if (name.equals("getDefaultTemplate"))
+					return new IAllele[SLOTS];
+				if (name.equals("hashCode"))
+					return System.identityHashCode(proxy);
+				if (name.equals("equals"))
+					return proxy == args[0];
+				if (name.equals("toString"))
+					return uid;
+				throw new UnsupportedOperationException(name);
+			}
+		});
+		return type.cast(stub);
+	}
+
+	private static class TestGenome extends Genome {
+
+		public TestGenome(IChromosome[] chromosomes) {
+			super(chromosomes);
+		}
+
+		@Override
+		public IAlleleSpecies getPrimary() {
+			return (IAlleleSpecies) getChromosomes()[0].getPrimaryAllele();
+		}
+
+		@Override
+		public IAlleleSpecies getSecondary() {
+			return (IAlleleSpecies) getChromosomes()[0].getSecondaryAllele();
+		}
+
+		@Override
+		public ISpeciesRoot getSpeciesRoot() {
+			return ROOT;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2011-2014 SirSengir.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the GNU Lesser Public License v3
+ * which accompanies this distribution, and is available at
+ * http://www.gnu.org/licenses/lgpl-3.0.txt
+ * 
+ * Various Contributors including, but not limited to:
+ * SirSengir (original work), CovertJaguar, Player, Binnie, MysteriousAges
+ ******************************************************************************/
+package forestry.core.worldgen;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Replays the cylinder layers WorldGenGiganteum and WorldGenSequoia place through WorldGenTree against a counting stub instead of a world,
+ * once with the cached disk masks of {@link WorldGenBase} and once with the per-block distance loops they replaced. Both have to place the
+ * same blocks in the same order, the timings are printed for comparison.
+ */
+public class WorldGenBaseBenchmark {
+
+	private static final int ROUNDS = 10;
+	private static final int TREES = 2000;
+
+	@Test
+	public void masksPlaceTheSameBlocks() {
+		for (int seed = 0; seed < 16; seed++) {
+			ShapeGenerator masked = new ShapeGenerator(false);
+			ShapeGenerator original = new ShapeGenerator(true);
+			masked.generate(null, new Random(seed), 0, 64, 0);
+			original.generate(null, new Random(seed), 0, 64, 0);
+
+			assertEquals(original.blocks, masked.blocks);
+			assertEquals(original.checksum, masked.checksum);
+		}
+	}
+
+	@Test
+	public void benchmark() {
+		ShapeGenerator masked = new ShapeGenerator(false);
+		ShapeGenerator original = new ShapeGenerator(true);
+
+		// Trees grow rarely enough that the first, cold round matters as much as the best one after warmup.
+		long[] maskedTimes = new long[ROUNDS];
+		long[] originalTimes = new long[ROUNDS];
+		for (int round = 0; round < ROUNDS; round++) {
+			maskedTimes[round] = run(masked, TREES);
+			originalTimes[round] = run(original, TREES);
+			assertEquals(original.checksum, masked.checksum);
+		}
+
+		System.out.println(String.format("%s giganteum and sequoia crowns, %s blocks each.", TREES, masked.blocks));
+		System.out.println(String.format("First round: %.1f ms with disk masks, %.1f ms with distance loops.", maskedTimes[0] / 1e6,
+				originalTimes[0] / 1e6));
+		System.out.println(String.format("Best round: %.1f ms with disk masks, %.1f ms with distance loops.", min(maskedTimes) / 1e6,
+				min(originalTimes) / 1e6));
+	}
+
+	private static long min(long[] times) {
+		long min = Long.MAX_VALUE;
+		for (long time : times)
+			min = Math.min(min, time);
+		return min;
+	}
+
+	private static long run(ShapeGenerator generator, int trees) {
+		generator.blocks = 0;
+		generator.checksum = 0;
+		Random random = new Random(42);
+		long start = System.nanoTime();
+		for (int i = 0; i < trees; i++)
+			generator.generate(null, random, random.nextInt(4096) - 2048, 64, random.nextInt(4096) - 2048);
+		return System.nanoTime() - start;
+	}
+
+	private static class ShapeGenerator extends WorldGenBase {
+
+		private final boolean original;
+		private int blocks;
+		private long checksum;
+
+		private int girth;
+		private int offsetX;
+		private int offsetZ;
+
+		public ShapeGenerator(boolean original) {
+			this.original = original;
+		}
+
+		@Override
+		public boolean subGenerate(int x, int y, int z) {
+			offsetX = x;
+			offsetZ = z;
+
+			// Giganteum, as placed by WorldGenTree.generate.
+			girth = 1 + rand.nextInt(3);
+			int height = 35 + rand.nextInt(15);
+			int leafSpawn = height + 1;
+			layer(leafSpawn--, 0);
+			layer(leafSpawn--, 0.5f);
+			layer(leafSpawn--, 1.9f);
+			layer(leafSpawn--, 1.9f);
+
+			// Sequoia crown.
+			girth = 1 + rand.nextInt(3);
+			height = 20 + rand.nextInt(5);
+			int topHeight = height - height / 4 + rand.nextInt(height / 4);
+			leafSpawn = height + 2;
+			layer(leafSpawn--, 0);
+			layer(leafSpawn--, 1);
+			layer(leafSpawn--, 1);
+			while (leafSpawn > topHeight)
+				layer(leafSpawn--, 1);
+			layer(leafSpawn--, 0);
+
+			return true;
+		}
+
+		private void layer(int yCenter, float radius) {
+			float cent = girth % 2 == 0 ? 0.5f : 0f;
+			Vector center = new Vector(cent + offsetX, yCenter, cent + offsetZ);
+			if (original)
+				generateCylinderOriginal(center, radius + girth, 1);
+			else
+				generateCylinder(center, radius + girth, 1, null, EnumReplaceMode.NONE);
+		}
+
+		/**
+		 * The loop generateCylinder used before the disk masks.
+		 */
+		private void generateCylinderOriginal(Vector center, float radius, int height) {
+			Vector start = new Vector(center.x - radius, center.y, center.z - radius);
+			Vector area = new Vector(radius * 2 + 1, height, radius * 2 + 1);
+			for (int x = (int) start.x; x < (int) start.x + area.x; x++) {
+				for (int y = (int) start.y; y < (int) start.y + area.y; y++) {
+					for (int z = (int) start.z; z < (int) start.z + area.z; z++) {
+						if (Vector.distance(new Vector(x, y, z), new Vector(center.x, y, center.z)) <= (radius) + 0.01)
+							addBlock(x, y, z, null, EnumReplaceMode.NONE);
+					}
+				}
+			}
+		}
+
+		@Override
+		protected void addBlock(int x, int y, int z, BlockType type, EnumReplaceMode replace) {
+			blocks++;
+			checksum = checksum * 31 + ((long) x << 40 ^ (long) y << 20 ^ z);
+		}
+	}
+}